@@ -156,6 +156,15 @@ CREATE TABLE inquiries (
     FOREIGN KEY (user_id) REFERENCES users(user_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 11. 이관 실패 행 보관 테이블 (배치 INSERT에서 분리된 오류 행)
+CREATE TABLE migration_dead_letter (
+    dead_letter_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    table_name VARCHAR(128) NOT NULL,
+    row_data LONGTEXT,
+    error_message TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- 인덱스 생성
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_created_at ON users(created_at);
@@ -169,5 +178,6 @@ CREATE INDEX idx_reviews_product_id ON reviews(product_id);
 CREATE INDEX idx_reviews_user_id ON reviews(user_id);
 CREATE INDEX idx_deliveries_order_id ON deliveries(order_id);
 CREATE INDEX idx_inquiries_user_id ON inquiries(user_id);
+CREATE INDEX idx_migration_dead_letter_table_name ON migration_dead_letter(table_name);
 
 SELECT 'MariaDB 개발환경 테이블 생성 완료' as message;
@@ -1,8 +1,16 @@
 package com.example.batch.config;
 
+import com.example.batch.processor.ProcessMode;
+import com.example.batch.reader.ReadMode;
+import com.example.batch.writer.InsertPolicy;
+import com.example.batch.writer.WriteMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 배치 설정 프로퍼티
  * application.yml의 batch 설정을 바인딩
@@ -14,6 +22,14 @@ public class BatchProperties {
     private int chunkSize = 1000;
     private int skipLimit = 100;
     private int retryLimit = 3;
+    private final Partition partition = new Partition();
+    private final Reader reader = new Reader();
+    private final Processor processor = new Processor();
+    private final Mapping mapping = new Mapping();
+    private final Writer writer = new Writer();
+    private final Pipeline pipeline = new Pipeline();
+    private final Progress progress = new Progress();
+    private final Launcher launcher = new Launcher();
 
     public int getChunkSize() {
         return chunkSize;
@@ -39,12 +55,475 @@ public class BatchProperties {
         this.retryLimit = retryLimit;
     }
 
+    public Partition getPartition() {
+        return partition;
+    }
+
+    public Reader getReader() {
+        return reader;
+    }
+
+    public Processor getProcessor() {
+        return processor;
+    }
+
+    public Mapping getMapping() {
+        return mapping;
+    }
+
+    public Writer getWriter() {
+        return writer;
+    }
+
+    public Pipeline getPipeline() {
+        return pipeline;
+    }
+
+    public Progress getProgress() {
+        return progress;
+    }
+
+    public Launcher getLauncher() {
+        return launcher;
+    }
+
     @Override
     public String toString() {
         return "BatchProperties{" +
                 "chunkSize=" + chunkSize +
                 ", skipLimit=" + skipLimit +
                 ", retryLimit=" + retryLimit +
+                ", partition=" + partition +
+                ", reader=" + reader +
+                ", processor=" + processor +
+                ", mapping=" + mapping +
+                ", writer=" + writer +
+                ", pipeline=" + pipeline +
+                ", progress=" + progress +
+                ", launcher=" + launcher +
                 '}';
     }
+
+    /**
+     * 파티션 Step 설정 (batch.partition.*)
+     * 동시 실행 스레드 수는 소스/타겟 커넥션 풀 크기를 넘지 않도록 설정
+     */
+    public static class Partition {
+
+        private int gridSize = 4;
+        private int maxThreads = 4;
+
+        public int getGridSize() {
+            return gridSize;
+        }
+
+        public void setGridSize(int gridSize) {
+            this.gridSize = gridSize;
+        }
+
+        public int getMaxThreads() {
+            return maxThreads;
+        }
+
+        public void setMaxThreads(int maxThreads) {
+            this.maxThreads = maxThreads;
+        }
+
+        @Override
+        public String toString() {
+            return "Partition{" +
+                    "gridSize=" + gridSize +
+                    ", maxThreads=" + maxThreads +
+                    '}';
+        }
+    }
+
+    /**
+     * Reader 설정 (batch.reader.*)
+     * 한글 테이블명은 batch.reader.table-modes.[주문]=KEYSET 처럼 대괄호로 지정
+     */
+    public static class Reader {
+
+        private ReadMode mode = ReadMode.CURSOR;
+        private Map<String, ReadMode> tableModes = new HashMap<>();
+        private boolean resumeByKey = true;
+        private boolean projectMappedColumns = false;
+        private Map<String, List<String>> includeColumns = new HashMap<>();
+        private Map<String, List<String>> excludeColumns = new HashMap<>();
+        private boolean lobStreaming = false;
+        private int lobThreshold = 1024 * 1024;
+
+        public ReadMode getMode() {
+            return mode;
+        }
+
+        public void setMode(ReadMode mode) {
+            this.mode = mode;
+        }
+
+        public Map<String, ReadMode> getTableModes() {
+            return tableModes;
+        }
+
+        public void setTableModes(Map<String, ReadMode> tableModes) {
+            this.tableModes = tableModes;
+        }
+
+        public boolean isResumeByKey() {
+            return resumeByKey;
+        }
+
+        public void setResumeByKey(boolean resumeByKey) {
+            this.resumeByKey = resumeByKey;
+        }
+
+        public boolean isProjectMappedColumns() {
+            return projectMappedColumns;
+        }
+
+        public void setProjectMappedColumns(boolean projectMappedColumns) {
+            this.projectMappedColumns = projectMappedColumns;
+        }
+
+        public Map<String, List<String>> getIncludeColumns() {
+            return includeColumns;
+        }
+
+        public void setIncludeColumns(Map<String, List<String>> includeColumns) {
+            this.includeColumns = includeColumns;
+        }
+
+        public Map<String, List<String>> getExcludeColumns() {
+            return excludeColumns;
+        }
+
+        public void setExcludeColumns(Map<String, List<String>> excludeColumns) {
+            this.excludeColumns = excludeColumns;
+        }
+
+        public boolean isLobStreaming() {
+            return lobStreaming;
+        }
+
+        public void setLobStreaming(boolean lobStreaming) {
+            this.lobStreaming = lobStreaming;
+        }
+
+        public int getLobThreshold() {
+            return lobThreshold;
+        }
+
+        public void setLobThreshold(int lobThreshold) {
+            this.lobThreshold = lobThreshold;
+        }
+
+        /**
+         * 테이블에 적용할 읽기 방식 (테이블별 설정이 없으면 기본 방식)
+         */
+        public ReadMode resolveMode(String tableName) {
+            return tableModes.getOrDefault(tableName, mode);
+        }
+
+        @Override
+        public String toString() {
+            return "Reader{" +
+                    "mode=" + mode +
+                    ", tableModes=" + tableModes +
+                    ", resumeByKey=" + resumeByKey +
+                    ", projectMappedColumns=" + projectMappedColumns +
+                    ", includeColumns=" + includeColumns +
+                    ", excludeColumns=" + excludeColumns +
+                    ", lobStreaming=" + lobStreaming +
+                    ", lobThreshold=" + lobThreshold +
+                    '}';
+        }
+    }
+
+    /**
+     * 변환 단계 설정 (batch.processor.*)
+     */
+    public static class Processor {
+
+        private ProcessMode mode = ProcessMode.ITEM;
+
+        /**
+         * ASYNC 모드의 변환 스레드 수 (0이면 CPU 코어 수)
+         */
+        private int asyncThreads = 0;
+
+        /**
+         * 문자열 컬럼별 값 사전 최대 크기
+         * 서로 다른 값이 이보다 많으면 해당 컬럼은 사전을 사용하지 않음 (0이면 사용 안 함)
+         */
+        private int dictionaryMaxEntries = 256;
+
+        public ProcessMode getMode() {
+            return mode;
+        }
+
+        public void setMode(ProcessMode mode) {
+            this.mode = mode;
+        }
+
+        public int getAsyncThreads() {
+            return asyncThreads;
+        }
+
+        public void setAsyncThreads(int asyncThreads) {
+            this.asyncThreads = asyncThreads;
+        }
+
+        public int getDictionaryMaxEntries() {
+            return dictionaryMaxEntries;
+        }
+
+        public void setDictionaryMaxEntries(int dictionaryMaxEntries) {
+            this.dictionaryMaxEntries = dictionaryMaxEntries;
+        }
+
+        /**
+         * 실제 사용할 ASYNC 모드 변환 스레드 수
+         */
+        public int resolveAsyncThreads() {
+            return asyncThreads > 0 ? asyncThreads : Runtime.getRuntime().availableProcessors();
+        }
+
+        @Override
+        public String toString() {
+            return "Processor{" +
+                    "mode=" + mode +
+                    ", asyncThreads=" + asyncThreads +
+                    ", dictionaryMaxEntries=" + dictionaryMaxEntries +
+                    '}';
+        }
+    }
+
+    /**
+     * 매핑 사전 설정 (batch.mapping.*)
+     */
+    public static class Mapping {
+
+        /**
+         * 한글 -> 영어 매핑 사전 파일 위치 (YAML 또는 .json, classpath: / file: 접두어 사용)
+         */
+        private String location = "classpath:mapping/migration-mappings.yml";
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        @Override
+        public String toString() {
+            return "Mapping{" +
+                    "location='" + location + '\'' +
+                    '}';
+        }
+    }
+
+    /**
+     * Writer 설정 (batch.writer.*)
+     */
+    public static class Writer {
+
+        private WriteMode mode = WriteMode.BATCH;
+
+        /**
+         * MULTI_ROW 모드에서 한 INSERT 문장의 최대 예상 크기 (타겟 max_allowed_packet보다 작게 설정)
+         */
+        private int maxStatementBytes = 4 * 1024 * 1024;
+
+        /**
+         * MULTI_ROW 모드에서 한 INSERT 문장에 묶을 최대 행 수
+         */
+        private int maxRowsPerStatement = 1000;
+
+        /**
+         * 배치 INSERT에서 분리된 오류 행을 보관할 타겟 테이블
+         */
+        private String deadLetterTable = "migration_dead_letter";
+
+        /**
+         * 중복 키 처리 방식 (테이블별 설정이 없을 때 적용)
+         */
+        private InsertPolicy insertPolicy = InsertPolicy.INSERT;
+
+        /**
+         * 타겟 테이블별 중복 키 처리 방식
+         */
+        private Map<String, InsertPolicy> tablePolicies = new HashMap<>();
+
+        public WriteMode getMode() {
+            return mode;
+        }
+
+        public void setMode(WriteMode mode) {
+            this.mode = mode;
+        }
+
+        public int getMaxStatementBytes() {
+            return maxStatementBytes;
+        }
+
+        public void setMaxStatementBytes(int maxStatementBytes) {
+            this.maxStatementBytes = maxStatementBytes;
+        }
+
+        public int getMaxRowsPerStatement() {
+            return maxRowsPerStatement;
+        }
+
+        public void setMaxRowsPerStatement(int maxRowsPerStatement) {
+            this.maxRowsPerStatement = maxRowsPerStatement;
+        }
+
+        public String getDeadLetterTable() {
+            return deadLetterTable;
+        }
+
+        public void setDeadLetterTable(String deadLetterTable) {
+            this.deadLetterTable = deadLetterTable;
+        }
+
+        public InsertPolicy getInsertPolicy() {
+            return insertPolicy;
+        }
+
+        public void setInsertPolicy(InsertPolicy insertPolicy) {
+            this.insertPolicy = insertPolicy;
+        }
+
+        public Map<String, InsertPolicy> getTablePolicies() {
+            return tablePolicies;
+        }
+
+        public void setTablePolicies(Map<String, InsertPolicy> tablePolicies) {
+            this.tablePolicies = tablePolicies;
+        }
+
+        /**
+         * 타겟 테이블에 적용할 중복 키 처리 방식 (테이블별 설정이 없으면 기본 방식)
+         */
+        public InsertPolicy resolveInsertPolicy(String tableName) {
+            return tablePolicies.getOrDefault(tableName, insertPolicy);
+        }
+
+        @Override
+        public String toString() {
+            return "Writer{" +
+                    "mode=" + mode +
+                    ", maxStatementBytes=" + maxStatementBytes +
+                    ", maxRowsPerStatement=" + maxRowsPerStatement +
+                    ", deadLetterTable='" + deadLetterTable + '\'' +
+                    ", insertPolicy=" + insertPolicy +
+                    ", tablePolicies=" + tablePolicies +
+                    '}';
+        }
+    }
+
+    /**
+     * 파이프라인 Step 설정 (batch.pipeline.*)
+     * 활성화하면 읽기/변환이 별도 스레드에서 다음 청크를 미리 준비하는 동안 Step 스레드가 쓰기를 수행
+     */
+    public static class Pipeline {
+
+        private boolean enabled = false;
+
+        /**
+         * 단계 사이 큐의 최대 아이템 수 (가득 차면 앞 단계가 대기)
+         */
+        private int queueCapacity = 2000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        @Override
+        public String toString() {
+            return "Pipeline{" +
+                    "enabled=" + enabled +
+                    ", queueCapacity=" + queueCapacity +
+                    '}';
+        }
+    }
+
+    /**
+     * 진행 상황 스트리밍 설정 (batch.progress.*)
+     */
+    public static class Progress {
+
+        /**
+         * SSE 진행 상황 이벤트 전송 주기 (밀리초)
+         */
+        private long emitIntervalMs = 1000;
+
+        public long getEmitIntervalMs() {
+            return emitIntervalMs;
+        }
+
+        public void setEmitIntervalMs(long emitIntervalMs) {
+            this.emitIntervalMs = emitIntervalMs;
+        }
+
+        @Override
+        public String toString() {
+            return "Progress{" +
+                    "emitIntervalMs=" + emitIntervalMs +
+                    '}';
+        }
+    }
+
+    /**
+     * REST API Job 실행 설정 (batch.launcher.*)
+     * Job은 비동기로 실행되며, 동시에 실행되는 Job 수와 대기 Job 수를 제한하여
+     * 여러 테이블 이관 요청이 소스/타겟 커넥션 풀을 모두 점유하지 않도록 함
+     */
+    public static class Launcher {
+
+        private int maxConcurrentJobs = 2;
+
+        /**
+         * 실행 대기 Job 최대 수 (가득 차면 실행 요청 거부)
+         */
+        private int queueCapacity = 10;
+
+        public int getMaxConcurrentJobs() {
+            return maxConcurrentJobs;
+        }
+
+        public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+            this.maxConcurrentJobs = maxConcurrentJobs;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        @Override
+        public String toString() {
+            return "Launcher{" +
+                    "maxConcurrentJobs=" + maxConcurrentJobs +
+                    ", queueCapacity=" + queueCapacity +
+                    '}';
+        }
+    }
 }
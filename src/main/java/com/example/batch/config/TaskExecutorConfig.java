@@ -0,0 +1,111 @@
+package com.example.batch.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 병렬 이관용 TaskExecutor 설정
+ * - 파티션 Step의 Worker Step 실행에 사용
+ * - 진행 상황 SSE 이벤트 주기 전송에 사용
+ * - REST API로 요청한 Job의 비동기 실행에 사용
+ * - ASYNC 변환 모드의 행 변환에 사용
+ * - 파이프라인 모드의 읽기/변환 단계 실행에 사용
+ */
+@Configuration
+public class TaskExecutorConfig {
+
+    /**
+     * 이관 작업용 스레드 풀
+     * 스레드 수는 batch.partition.max-threads 설정을 따름
+     */
+    @Bean(name = "migrationTaskExecutor")
+    public TaskExecutor migrationTaskExecutor(BatchProperties batchProperties) {
+        int maxThreads = batchProperties.getPartition().getMaxThreads();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxThreads);
+        executor.setMaxPoolSize(maxThreads);
+        executor.setThreadNamePrefix("migration-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 진행 상황 SSE 이벤트 전송용 스케줄러
+     * 구독마다 주기 작업 하나를 등록하며, 이벤트 생성은 짧은 조회만 수행하므로 작은 풀로 충분함
+     */
+    @Bean(name = "progressTaskScheduler")
+    public TaskScheduler progressTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("progress-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * REST API Job 실행용 스레드 풀
+     * 스레드 수만큼 Job이 동시에 실행되고 나머지는 큐에서 대기 (batch.launcher.* 설정)
+     */
+    @Bean(name = "jobLaunchTaskExecutor")
+    public TaskExecutor jobLaunchTaskExecutor(BatchProperties batchProperties) {
+        BatchProperties.Launcher launcher = batchProperties.getLauncher();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(launcher.getMaxConcurrentJobs());
+        executor.setMaxPoolSize(launcher.getMaxConcurrentJobs());
+        executor.setQueueCapacity(launcher.getQueueCapacity());
+        executor.setThreadNamePrefix("job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * ASYNC 변환 모드의 행 변환용 스레드 풀
+     * 변환은 CPU 작업이므로 스레드 수는 코어 수 기준 (batch.processor.async-threads)
+     * 대기 작업 수는 청크 크기 x 동시 실행 Step 수 이내로 제한됨
+     */
+    @Bean(name = "processTaskExecutor")
+    public TaskExecutor processTaskExecutor(BatchProperties batchProperties) {
+        int threads = batchProperties.getProcessor().resolveAsyncThreads();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("process-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 파이프라인 모드의 읽기/변환 단계용 스레드 풀
+     * 단계는 Step이 끝날 때까지 스레드를 점유하므로 동시에 실행될 수 있는 Step 수
+     * (Job 실행 스레드 + migrationTaskExecutor 스레드) x 단계 2개만큼 스레드를 둠
+     * 대기 큐 없이 스레드가 모자라면 Reader open 시 바로 실패시킴 (대기하면 Step이 멈춤)
+     * 단계는 Step 종료 시 중지되며, 컨텍스트 종료 시에는 남은 단계를 인터럽트함
+     */
+    @Bean(name = "pipelineTaskExecutor")
+    public AsyncTaskExecutor pipelineTaskExecutor(BatchProperties batchProperties) {
+        int concurrentSteps = batchProperties.getLauncher().getMaxConcurrentJobs()
+                + batchProperties.getPartition().getMaxThreads();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrentSteps * 2);
+        executor.setMaxPoolSize(concurrentSteps * 2);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("pipeline-");
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -2,14 +2,22 @@ package com.example.batch.controller;
 
 import com.example.batch.config.BatchProperties;
 import com.example.batch.job.DataMigrationJobConfig;
+import com.example.batch.job.MigrationJobQueue;
+import com.example.batch.processor.MappingDictionary;
+import com.example.batch.processor.MappingDictionaryRegistry;
+import com.example.batch.statistics.MigrationProgressService;
+import com.example.batch.statistics.MigrationStatistics;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -17,6 +25,8 @@ import java.util.Map;
 
 /**
  * 데이터 이관 Job을 실행하고 모니터링하는 REST 컨트롤러
+ * Job은 MigrationJobQueue를 통해 비동기로 실행되므로 실행 요청은 대기열에 넣은 뒤 바로 응답하며,
+ * 이후 상태는 /jobs, /progress/{jobExecutionId} 로 확인
  */
 @RestController
 @RequestMapping("/api/migration")
@@ -24,20 +34,29 @@ public class MigrationController {
 
     private static final Logger logger = LoggerFactory.getLogger(MigrationController.class);
 
-    private final JobLauncher jobLauncher;
+    private final MigrationJobQueue jobQueue;
     private final Job dataMigrationJob;
     private final DataMigrationJobConfig jobConfig;
     private final BatchProperties batchProperties;
+    private final MigrationStatisticsRegistry statisticsRegistry;
+    private final MigrationProgressService progressService;
+    private final MappingDictionaryRegistry mappingRegistry;
 
     public MigrationController(
-            JobLauncher jobLauncher,
+            MigrationJobQueue jobQueue,
             Job dataMigrationJob,
             DataMigrationJobConfig jobConfig,
-            BatchProperties batchProperties) {
-        this.jobLauncher = jobLauncher;
+            BatchProperties batchProperties,
+            MigrationStatisticsRegistry statisticsRegistry,
+            MigrationProgressService progressService,
+            MappingDictionaryRegistry mappingRegistry) {
+        this.jobQueue = jobQueue;
         this.dataMigrationJob = dataMigrationJob;
         this.jobConfig = jobConfig;
         this.batchProperties = batchProperties;
+        this.statisticsRegistry = statisticsRegistry;
+        this.progressService = progressService;
+        this.mappingRegistry = mappingRegistry;
     }
 
     /**
@@ -70,14 +89,20 @@ public class MigrationController {
             JobParameters jobParameters = parametersBuilder.toJobParameters();
             
             logger.info("Starting full data migration job with parameters: {}", jobParameters);
-            JobExecution jobExecution = jobLauncher.run(dataMigrationJob, jobParameters);
+            JobExecution jobExecution = jobQueue.submit(dataMigrationJob, jobParameters);
             
             response.put("success", true);
             response.put("jobExecutionId", jobExecution.getId());
             response.put("jobInstanceId", jobExecution.getJobInstance().getId());
             response.put("status", jobExecution.getStatus().toString());
             response.put("startTime", jobExecution.getStartTime());
-            response.put("message", "Migration job started successfully");
+            response.put("message", "Migration job queued successfully");
+            
+        } catch (TaskRejectedException e) {
+            logger.warn("Migration job rejected: {}", e.getMessage());
+            response.put("success", false);
+            response.put("error", "Job queue is full");
+            response.put("message", e.getMessage());
             
         } catch (JobExecutionAlreadyRunningException e) {
             logger.warn("Job is already running: {}", e.getMessage());
@@ -95,6 +120,47 @@ public class MigrationController {
         return response;
     }
 
+    /**
+     * 외래키 의존성 기반 병렬 이관 Job 실행
+     * 부모 테이블이 끝난 테이블끼리 동시에 이관
+     */
+    @PostMapping("/start/parallel")
+    public Map<String, Object> startParallelMigration() {
+        
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            Job parallelJob = jobConfig.createDependencyAwareMigrationJob();
+            
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLocalDateTime("startTime", LocalDateTime.now())
+                    .addString("triggeredBy", "REST_API_PARALLEL")
+                    .toJobParameters();
+            
+            logger.info("Starting dependency aware migration job with parameters: {}", jobParameters);
+            JobExecution jobExecution = jobQueue.submit(parallelJob, jobParameters);
+            
+            response.put("success", true);
+            response.put("jobExecutionId", jobExecution.getId());
+            response.put("status", jobExecution.getStatus().toString());
+            response.put("message", "Parallel migration job queued successfully");
+            
+        } catch (TaskRejectedException e) {
+            logger.warn("Parallel migration job rejected: {}", e.getMessage());
+            response.put("success", false);
+            response.put("error", "Job queue is full");
+            response.put("message", e.getMessage());
+            
+        } catch (Exception e) {
+            logger.error("Failed to start parallel migration job: {}", e.getMessage(), e);
+            response.put("success", false);
+            response.put("error", "Parallel migration failed");
+            response.put("message", e.getMessage());
+        }
+        
+        return response;
+    }
+
     /**
      * 특정 테이블만 이관
      */
@@ -102,19 +168,23 @@ public class MigrationController {
     public Map<String, Object> migrateTable(
             @PathVariable String tableName,
             @RequestParam(required = false) String whereClause,
-            @RequestParam(required = false) Integer chunkSize) {
+            @RequestParam(required = false) Integer chunkSize,
+            @RequestParam(defaultValue = "false") boolean partitioned) {
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            // 단일 테이블 Job 생성
-            Job singleTableJob = jobConfig.createSingleTableMigrationJob(tableName, whereClause);
+            // 단일 테이블 Job 생성 (partitioned=true 이면 기본키 범위 병렬 처리)
+            Job singleTableJob = partitioned
+                    ? jobConfig.createPartitionedTableMigrationJob(tableName, whereClause)
+                    : jobConfig.createSingleTableMigrationJob(tableName, whereClause);
             
             // Job Parameters 설정
             JobParametersBuilder parametersBuilder = new JobParametersBuilder()
                     .addLocalDateTime("startTime", LocalDateTime.now())
                     .addString("tableName", tableName)
-                    .addString("triggeredBy", "REST_API_TABLE");
+                    .addString("triggeredBy", "REST_API_TABLE")
+                    .addString("partitioned", String.valueOf(partitioned));
             
             if (whereClause != null) {
                 parametersBuilder.addString("whereClause", whereClause);
@@ -127,13 +197,20 @@ public class MigrationController {
             JobParameters jobParameters = parametersBuilder.toJobParameters();
             
             logger.info("Starting table migration for: {} with parameters: {}", tableName, jobParameters);
-            JobExecution jobExecution = jobLauncher.run(singleTableJob, jobParameters);
+            JobExecution jobExecution = jobQueue.submit(singleTableJob, jobParameters);
             
             response.put("success", true);
             response.put("tableName", tableName);
             response.put("jobExecutionId", jobExecution.getId());
             response.put("status", jobExecution.getStatus().toString());
-            response.put("message", "Table migration started successfully");
+            response.put("message", "Table migration queued successfully");
+            
+        } catch (TaskRejectedException e) {
+            logger.warn("Table migration for {} rejected: {}", tableName, e.getMessage());
+            response.put("success", false);
+            response.put("tableName", tableName);
+            response.put("error", "Job queue is full");
+            response.put("message", e.getMessage());
             
         } catch (Exception e) {
             logger.error("Failed to start table migration for {}: {}", tableName, e.getMessage(), e);
@@ -146,6 +223,79 @@ public class MigrationController {
         return response;
     }
 
+    /**
+     * 실행 대기 중인 Job과 실행 중인 Job 목록 조회
+     */
+    @GetMapping("/jobs")
+    public Map<String, Object> getJobs() {
+        return jobQueue.snapshot();
+    }
+
+    /**
+     * 처리/쓰기 통계 조회 (전체 합계와 Step 실행별 통계)
+     */
+    @GetMapping("/statistics")
+    public Map<String, Object> getStatistics() {
+        return statisticsRegistry.snapshot();
+    }
+
+    /**
+     * 실행 중인 Job의 테이블별 진행 상황 스트리밍 (Server-Sent Events)
+     * 읽기/쓰기 건수, 현재 처리 속도, 예상 남은 시간, 읽기-쓰기 차이를 주기적으로 전송하고 Job이 끝나면 종료
+     */
+    @GetMapping(value = "/progress/{jobExecutionId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProgress(
+            @PathVariable Long jobExecutionId,
+            @RequestParam(required = false) Long intervalMs) {
+        return progressService.stream(jobExecutionId, intervalMs);
+    }
+
+    /**
+     * 특정 Step 실행의 처리/쓰기 통계 조회
+     */
+    @GetMapping("/statistics/{stepExecutionId}")
+    public Map<String, Object> getStepStatistics(@PathVariable Long stepExecutionId) {
+        MigrationStatistics statistics = statisticsRegistry.getStep(stepExecutionId);
+        if (statistics == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Statistics not found");
+            response.put("message", "No statistics for step execution: " + stepExecutionId);
+            return response;
+        }
+        return statistics.toMap();
+    }
+
+    /**
+     * 현재 적용 중인 매핑 사전과 적용 대기 중인 매핑 사전 정보 조회
+     */
+    @GetMapping("/mappings")
+    public Map<String, Object> getMappings() {
+        return mappingRegistry.snapshot();
+    }
+
+    /**
+     * 매핑 사전 파일 다시 읽기 (다음 Step 시작 시 적용, 실행 중인 Step은 기존 사전 사용)
+     */
+    @PostMapping("/mappings/reload")
+    public Map<String, Object> reloadMappings() {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            MappingDictionary dictionary = mappingRegistry.reload();
+            response.put("success", true);
+            response.put("message", "Mapping dictionary reloaded, it will be applied from the next step");
+            response.put("dictionary", dictionary.toMap());
+        } catch (IllegalStateException e) {
+            logger.error("Failed to reload mapping dictionary", e);
+            response.put("success", false);
+            response.put("error", "Invalid mapping dictionary");
+            response.put("message", e.getMessage());
+        }
+
+        return response;
+    }
+
     /**
      * 현재 배치 설정 정보 조회
      */
@@ -155,6 +305,8 @@ public class MigrationController {
         config.put("chunkSize", batchProperties.getChunkSize());
         config.put("skipLimit", batchProperties.getSkipLimit());
         config.put("retryLimit", batchProperties.getRetryLimit());
+        config.put("gridSize", batchProperties.getPartition().getGridSize());
+        config.put("maxThreads", batchProperties.getPartition().getMaxThreads());
         return config;
     }
 
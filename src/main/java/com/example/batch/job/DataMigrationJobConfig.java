@@ -2,23 +2,61 @@ package com.example.batch.job;
 
 import com.example.batch.config.BatchProperties;
 import com.example.batch.model.DataRecord;
+import com.example.batch.processor.ChunkTransformingItemWriter;
 import com.example.batch.processor.DataTransformProcessor;
+import com.example.batch.processor.MappingDictionary;
+import com.example.batch.processor.MappingDictionaryRegistry;
+import com.example.batch.processor.ProcessMode;
 import com.example.batch.reader.DatabaseItemReader;
+import com.example.batch.reader.KeyRange;
+import com.example.batch.reader.KeyResumingItemReader;
+import com.example.batch.reader.PipelinedItemReader;
+import com.example.batch.reader.ReadMode;
+import com.example.batch.statistics.MigrationMetrics;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
 import com.example.batch.writer.DatabaseItemWriter;
+import com.example.batch.writer.ForeignKeyChecks;
+import com.example.batch.writer.LoadDataItemWriter;
+import com.example.batch.writer.WriteMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.builder.FlowJobBuilder;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.support.PassThroughItemProcessor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
 
 /**
  * 데이터 이관 Job 설정
@@ -37,6 +75,15 @@ public class DataMigrationJobConfig {
     private final DatabaseItemReader databaseItemReader;
     private final DataTransformProcessor dataTransformProcessor;
     private final DatabaseItemWriter databaseItemWriter;
+    private final LoadDataItemWriter loadDataItemWriter;
+    private final TaskExecutor migrationTaskExecutor;
+    private final TaskExecutor processTaskExecutor;
+    private final AsyncTaskExecutor pipelineTaskExecutor;
+    private final TableDependencyResolver tableDependencyResolver;
+    private final MigrationStatisticsRegistry statisticsRegistry;
+    private final MigrationMetrics migrationMetrics;
+    private final MappingDictionaryRegistry mappingRegistry;
+    private final LobSpoolCleanupListener lobSpoolCleanupListener = new LobSpoolCleanupListener();
 
     public DataMigrationJobConfig(
             JobRepository jobRepository,
@@ -46,7 +93,15 @@ public class DataMigrationJobConfig {
             BatchProperties batchProperties,
             DatabaseItemReader databaseItemReader,
             DataTransformProcessor dataTransformProcessor,
-            DatabaseItemWriter databaseItemWriter) {
+            DatabaseItemWriter databaseItemWriter,
+            LoadDataItemWriter loadDataItemWriter,
+            @Qualifier("migrationTaskExecutor") TaskExecutor migrationTaskExecutor,
+            @Qualifier("processTaskExecutor") TaskExecutor processTaskExecutor,
+            @Qualifier("pipelineTaskExecutor") AsyncTaskExecutor pipelineTaskExecutor,
+            TableDependencyResolver tableDependencyResolver,
+            MigrationStatisticsRegistry statisticsRegistry,
+            MigrationMetrics migrationMetrics,
+            MappingDictionaryRegistry mappingRegistry) {
         
         this.jobRepository = jobRepository;
         this.transactionManager = transactionManager;
@@ -56,6 +111,14 @@ public class DataMigrationJobConfig {
         this.databaseItemReader = databaseItemReader;
         this.dataTransformProcessor = dataTransformProcessor;
         this.databaseItemWriter = databaseItemWriter;
+        this.loadDataItemWriter = loadDataItemWriter;
+        this.migrationTaskExecutor = migrationTaskExecutor;
+        this.processTaskExecutor = processTaskExecutor;
+        this.pipelineTaskExecutor = pipelineTaskExecutor;
+        this.tableDependencyResolver = tableDependencyResolver;
+        this.statisticsRegistry = statisticsRegistry;
+        this.migrationMetrics = migrationMetrics;
+        this.mappingRegistry = mappingRegistry;
     }
 
     /**
@@ -72,36 +135,250 @@ public class DataMigrationJobConfig {
                 .build();
     }
 
+    /**
+     * 외래키 의존성 기반 병렬 이관 Job
+     * 소스 DB의 외래키로 단계를 나누고, 같은 단계의 테이블은 split Flow로 동시에 실행
+     * 순환 참조 단계의 테이블은 순차로 실행하며 타겟의 외래키 검사를 끈 채로 적재 (ForeignKeyChecks 참고)
+     * 단계 사이에는 장벽이 있어 각 테이블은 부모 테이블이 아니라 앞 단계 전체가 끝나야 시작됨
+     * 매핑이 정의된 모든 테이블이 대상
+     */
+    public Job createDependencyAwareMigrationJob() {
+        MappingDictionary dictionary = mappingRegistry.current();
+        List<MigrationLevel> levels = tableDependencyResolver.resolveLevels(dictionary.getSourceTables());
+        logger.info("Creating dependency aware migration job with {} levels: {}", levels.size(), levels);
+
+        List<String> uncheckedTables = new ArrayList<>();
+        FlowBuilder<FlowJobBuilder> jobFlowBuilder = null;
+        for (int i = 0; i < levels.size(); i++) {
+            MigrationLevel level = levels.get(i);
+            Flow levelFlow = level.isCyclic()
+                    ? createSequentialLevelFlow(i, level.getTables())
+                    : createLevelFlow(i, level.getTables());
+            if (level.isCyclic()) {
+                level.getTables().forEach(table -> uncheckedTables.add(dictionary.resolveTableName(table)));
+            }
+            jobFlowBuilder = jobFlowBuilder == null
+                    ? new JobBuilder("dependencyAwareMigrationJob", jobRepository).start(levelFlow)
+                    : jobFlowBuilder.next(levelFlow);
+        }
+
+        if (jobFlowBuilder == null) {
+            throw new IllegalStateException("No tables to migrate");
+        }
+        FlowJobBuilder jobBuilder = jobFlowBuilder.end();
+        if (!uncheckedTables.isEmpty()) {
+            logger.warn("Foreign key checks will be disabled while loading circularly dependent tables: {}",
+                uncheckedTables);
+            jobBuilder.listener(new JobExecutionListener() {
+                @Override
+                public void beforeJob(JobExecution jobExecution) {
+                    ForeignKeyChecks.disableFor(jobExecution.getExecutionContext(), uncheckedTables);
+                }
+            });
+        }
+        return jobBuilder.build();
+    }
+
+    /**
+     * 한 단계에 속한 테이블들을 병렬로 실행하는 split Flow 생성
+     */
+    private Flow createLevelFlow(int level, List<String> tableNames) {
+        Flow[] tableFlows = tableNames.stream()
+                .map(tableName -> new FlowBuilder<Flow>(tableName + "Flow")
+                        .start(migrationStep(tableName, null))
+                        .build())
+                .toArray(Flow[]::new);
+
+        return new FlowBuilder<Flow>("level" + level + "Flow")
+                .split(migrationTaskExecutor)
+                .add(tableFlows)
+                .build();
+    }
+
+    /**
+     * 순환 참조 단계의 테이블들을 하나씩 순서대로 실행하는 Flow 생성
+     */
+    private Flow createSequentialLevelFlow(int level, List<String> tableNames) {
+        FlowBuilder<Flow> flowBuilder = new FlowBuilder<>("level" + level + "Flow");
+        flowBuilder.start(migrationStep(tableNames.get(0), null));
+        for (int i = 1; i < tableNames.size(); i++) {
+            flowBuilder.next(migrationStep(tableNames.get(i), null));
+        }
+        return flowBuilder.build();
+    }
+
     /**
      * 테이블별 이관 Step 생성
+     * 테이블마다 새로운 Step을 만들어야 하므로 Bean으로 등록하지 않음
      * 
      * @param tableName 이관할 테이블명
      * @param whereClause WHERE 조건 (선택사항)
      * @return Step
      */
-    @Bean
     public Step migrationStep(String tableName, String whereClause) {
         logger.info("Creating migration step for table: {} with chunk size: {}", 
             tableName, batchProperties.getChunkSize());
 
-        return new StepBuilder(tableName + "MigrationStep", jobRepository)
-                .<DataRecord, DataRecord>chunk(batchProperties.getChunkSize(), transactionManager)
-                .reader(createTableReader(tableName, whereClause))
-                .processor(dataTransformProcessor)
-                .writer(databaseItemWriter)
-                .faultTolerant()
-                .skipLimit(batchProperties.getSkipLimit())
-                .skip(Exception.class)
-                .retryLimit(batchProperties.getRetryLimit())
-                .retry(Exception.class)
-                .listener(new MigrationStepListener(tableName))
+        return buildChunkStep(tableName + "MigrationStep",
+                pipelined(createTableReader(tableName, whereClause), tableName),
+                tableName, new MigrationStepListener(tableName, statisticsRegistry));
+    }
+
+    /**
+     * 기본키 범위로 분할하여 병렬 실행하는 파티션 Step 생성 (Manager Step)
+     * 각 범위는 Worker Step으로 migrationTaskExecutor 스레드에서 동시에 처리됨
+     *
+     * @param tableName 이관할 테이블명
+     * @param whereClause WHERE 조건 (선택사항)
+     * @return Step
+     */
+    public Step partitionedMigrationStep(String tableName, String whereClause) {
+        int gridSize = batchProperties.getPartition().getGridSize();
+        logger.info("Creating partitioned migration step for table: {} with grid size: {}", tableName, gridSize);
+
+        Step workerStep = partitionWorkerStep(tableName);
+
+        return new StepBuilder(tableName + "PartitionedMigrationStep", jobRepository)
+                .partitioner(workerStep.getName(),
+                    new KeyRangePartitioner(databaseItemReader, sourceDataSource, tableName, whereClause))
+                .step(workerStep)
+                .gridSize(gridSize)
+                .taskExecutor(migrationTaskExecutor)
+                .listener(new MigrationStepListener(tableName, statisticsRegistry))
                 .build();
     }
 
+    /**
+     * 파티션 하나를 처리하는 Worker Step 생성
+     */
+    private Step partitionWorkerStep(String tableName) {
+        return buildChunkStep(tableName + "WorkerStep",
+                partitionItemReader(null, null, null, null, null, null), tableName, null);
+    }
+
+    /**
+     * 파티션 Worker Step용 ItemReader
+     * KeyRangePartitioner가 생성한 ExecutionContext의 키 범위만 읽음
+     */
+    @Bean
+    @StepScope
+    public ItemStreamReader<DataRecord> partitionItemReader(
+            @Value("#{stepExecutionContext['tableName']}") String tableName,
+            @Value("#{stepExecutionContext['whereClause']}") String whereClause,
+            @Value("#{stepExecutionContext['keyColumn']}") String keyColumn,
+            @Value("#{stepExecutionContext['partitionIndex']}") Integer partitionIndex,
+            @Value("#{stepExecutionContext['minKey']}") Long minKey,
+            @Value("#{stepExecutionContext['maxKey']}") Long maxKey) {
+
+        ItemStreamReader<DataRecord> reader =
+            createRangeReader(tableName, whereClause, keyColumn, partitionIndex, minKey, maxKey);
+        return pipelined(reader, partitionIndex != null ? tableName + "Partition" + partitionIndex : tableName);
+    }
+
+    /**
+     * 파티션의 키 범위를 읽는 ItemReader 생성 (범위 정보가 없으면 테이블 전체)
+     */
+    private ItemStreamReader<DataRecord> createRangeReader(String tableName, String whereClause, String keyColumn,
+                                                           Integer partitionIndex, Long minKey, Long maxKey) {
+        if (keyColumn == null || minKey == null || maxKey == null) {
+            return createTableReader(tableName, whereClause);
+        }
+
+        KeyRange range = new KeyRange(partitionIndex, minKey, maxKey);
+        if (batchProperties.getReader().resolveMode(tableName) == ReadMode.KEYSET) {
+            return databaseItemReader.createKeysetReader(
+                sourceDataSource, tableName, whereClause, keyColumn, range, batchProperties.getChunkSize());
+        }
+
+        if (batchProperties.getReader().isResumeByKey()) {
+            return new KeyResumingItemReader(databaseItemReader, sourceDataSource,
+                tableName, whereClause, keyColumn, range, batchProperties.getChunkSize());
+        }
+
+        return databaseItemReader.createRangeReader(
+            sourceDataSource,
+            tableName,
+            whereClause,
+            keyColumn,
+            range,
+            batchProperties.getChunkSize()
+        );
+    }
+
+    /**
+     * batch.pipeline.enabled이면 읽기/변환을 pipelineTaskExecutor 스레드 단계로 분리한 Reader로 감쌈
+     */
+    private ItemStreamReader<DataRecord> pipelined(ItemStreamReader<DataRecord> reader, String name) {
+        if (!batchProperties.getPipeline().isEnabled()) {
+            return reader;
+        }
+        return new PipelinedItemReader(reader, dataTransformProcessor,
+            batchProperties.getPipeline().getQueueCapacity(), name + "Pipeline", pipelineTaskExecutor);
+    }
+
+    /**
+     * 파이프라인 모드에서는 Reader가 이미 변환한 아이템을 반환하므로 Step에서는 그대로 전달
+     * 청크 변환 모드에서는 Writer가 청크 단위로 변환하므로 마찬가지로 그대로 전달
+     */
+    private ItemProcessor<DataRecord, DataRecord> createItemProcessor() {
+        if (batchProperties.getPipeline().isEnabled() || isChunkProcessing()) {
+            return new PassThroughItemProcessor<>();
+        }
+        return dataTransformProcessor;
+    }
+
+    /**
+     * batch.writer.mode에 따라 ItemWriter 선택
+     * LOAD_DATA는 LoadDataItemWriter, 그 외 모드는 DatabaseItemWriter 내부에서 INSERT 방식 선택
+     * 청크 변환 모드이면 쓰기 전에 청크 전체를 변환하는 Writer로 감쌈
+     */
+    private ItemWriter<DataRecord> createItemWriter() {
+        ItemWriter<DataRecord> writer = batchProperties.getWriter().getMode() == WriteMode.LOAD_DATA
+                ? loadDataItemWriter
+                : databaseItemWriter;
+        if (isChunkProcessing()) {
+            return new ChunkTransformingItemWriter(dataTransformProcessor, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * batch.processor.mode가 CHUNK이고 파이프라인 모드가 아닌 경우
+     * (파이프라인 모드는 Reader 단계에서 이미 행 단위로 변환함)
+     */
+    private boolean isChunkProcessing() {
+        return batchProperties.getProcessor().getMode() == ProcessMode.CHUNK
+                && !batchProperties.getPipeline().isEnabled();
+    }
+
+    /**
+     * batch.processor.mode가 ASYNC이고 파이프라인 모드가 아닌 경우
+     */
+    private boolean isAsyncProcessing() {
+        return batchProperties.getProcessor().getMode() == ProcessMode.ASYNC
+                && !batchProperties.getPipeline().isEnabled();
+    }
+
     /**
      * 테이블별 ItemReader 생성
+     * batch.reader 설정에 따라 커서 또는 키셋 페이징 방식 선택
      */
-    private JdbcCursorItemReader<DataRecord> createTableReader(String tableName, String whereClause) {
+    private ItemStreamReader<DataRecord> createTableReader(String tableName, String whereClause) {
+        if (batchProperties.getReader().resolveMode(tableName) == ReadMode.KEYSET) {
+            String keyColumn = databaseItemReader.findPrimaryKeyColumn(sourceDataSource, tableName);
+            if (keyColumn != null) {
+                return databaseItemReader.createKeysetReader(
+                    sourceDataSource, tableName, whereClause, keyColumn, null, batchProperties.getChunkSize());
+            }
+            logger.warn("Table {} has no single column primary key, falling back to cursor reader", tableName);
+        }
+
+        if (batchProperties.getReader().isResumeByKey()) {
+            // 재시작 시 마지막 커밋 키 이후부터 읽음 (기본키는 Step 시작 시 조회)
+            return new KeyResumingItemReader(databaseItemReader, sourceDataSource,
+                tableName, whereClause, null, null, batchProperties.getChunkSize());
+        }
+
         return databaseItemReader.createReader(
             sourceDataSource, 
             tableName, 
@@ -121,6 +398,17 @@ public class DataMigrationJobConfig {
                 .build();
     }
 
+    /**
+     * 특정 테이블을 파티션 Step으로 병렬 이관하는 Job (동적 생성용)
+     */
+    public Job createPartitionedTableMigrationJob(String tableName, String whereClause) {
+        logger.info("Creating partitioned table migration job for: {}", tableName);
+
+        return new JobBuilder(tableName + "PartitionedMigrationJob", jobRepository)
+                .start(partitionedMigrationStep(tableName, whereClause))
+                .build();
+    }
+
     /**
      * 커스텀 쿼리를 사용하는 Step 생성
      */
@@ -130,17 +418,99 @@ public class DataMigrationJobConfig {
         JdbcCursorItemReader<DataRecord> customReader = new DatabaseItemReader()
                 .createReader(sourceDataSource, "(" + customQuery + ") AS custom_query", null, batchProperties.getChunkSize());
 
-        return new StepBuilder(stepName, jobRepository)
+        return buildChunkStep(stepName, pipelined(customReader, stepName),
+                stepName, new MigrationStepListener(stepName, statisticsRegistry));
+    }
+
+    /**
+     * 청크 Step 생성 (읽기 -> 변환 -> 쓰기, 오류 skip/retry 및 지표 리스너 포함)
+     * batch.processor.mode가 ASYNC이면 변환 결과를 Future로 전달하는 비동기 Step 생성
+     * 다시 읽은 매핑 사전은 Step 시작 시 적용되도록 MappingDictionaryRegistry를 리스너로 등록
+     * Step 종료 시 남은 LOB 임시 파일은 LobSpoolCleanupListener가 삭제
+     *
+     * @param stepListener Step 종료 통계 리스너 (파티션 Worker는 Manager Step에 등록하므로 null)
+     */
+    private Step buildChunkStep(String stepName, ItemStreamReader<DataRecord> reader,
+                                String tableName, StepExecutionListener stepListener) {
+        if (isAsyncProcessing()) {
+            return buildAsyncChunkStep(stepName, reader, tableName, stepListener);
+        }
+
+        FaultTolerantStepBuilder<DataRecord, DataRecord> builder = new StepBuilder(stepName, jobRepository)
                 .<DataRecord, DataRecord>chunk(batchProperties.getChunkSize(), transactionManager)
-                .reader(customReader)
-                .processor(dataTransformProcessor)
-                .writer(databaseItemWriter)
+                .reader(reader)
+                .processor(createItemProcessor())
+                .writer(createItemWriter())
                 .faultTolerant()
                 .skipLimit(batchProperties.getSkipLimit())
                 .skip(Exception.class)
                 .retryLimit(batchProperties.getRetryLimit())
-                .retry(Exception.class)
-                .listener(new MigrationStepListener(stepName))
-                .build();
+                .retry(Exception.class);
+        builder.listener(mappingRegistry);
+        builder.listener(lobSpoolCleanupListener);
+        if (stepListener != null) {
+            builder.listener(stepListener);
+        }
+        return buildWithMetrics(builder, tableName);
+    }
+
+    /**
+     * ASYNC 변환 모드 청크 Step 생성
+     * AsyncItemProcessor가 행마다 변환 작업을 processTaskExecutor에 제출하고 Future를 반환하며,
+     * AsyncItemWriter가 청크 순서대로 Future 결과를 모아 (필터된 null 제외) 실제 Writer에 전달
+     * 변환 중 발생한 예외는 쓰기 시점에 전파되어 쓰기 오류와 같은 skip/retry 정책이 적용됨
+     */
+    private Step buildAsyncChunkStep(String stepName, ItemStreamReader<DataRecord> reader,
+                                     String tableName, StepExecutionListener stepListener) {
+        AsyncItemProcessor<DataRecord, DataRecord> asyncProcessor = new AsyncItemProcessor<>();
+        asyncProcessor.setDelegate(dataTransformProcessor);
+        asyncProcessor.setTaskExecutor(processTaskExecutor);
+
+        AsyncItemWriter<DataRecord> asyncWriter = new AsyncItemWriter<>();
+        asyncWriter.setDelegate(createItemWriter());
+
+        try {
+            asyncProcessor.afterPropertiesSet();
+            asyncWriter.afterPropertiesSet();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialize async processing for step: " + stepName, e);
+        }
+
+        FaultTolerantStepBuilder<DataRecord, Future<DataRecord>> builder = new StepBuilder(stepName, jobRepository)
+                .<DataRecord, Future<DataRecord>>chunk(batchProperties.getChunkSize(), transactionManager)
+                .reader(reader)
+                .processor(asyncProcessor)
+                .writer(asyncWriter)
+                .faultTolerant()
+                .skipLimit(batchProperties.getSkipLimit())
+                .skip(Exception.class)
+                .retryLimit(batchProperties.getRetryLimit())
+                .retry(Exception.class);
+        builder.listener(mappingRegistry);
+        builder.listener(lobSpoolCleanupListener);
+        if (stepListener != null) {
+            builder.listener(stepListener);
+        }
+
+        MigrationMetricsListener metricsListener = new MigrationMetricsListener(tableName, migrationMetrics, statisticsRegistry);
+        builder.listener((StepExecutionListener) metricsListener);
+        builder.listener((ChunkListener) metricsListener);
+        builder.listener((ItemReadListener<DataRecord>) metricsListener);
+        builder.listener(metricsListener.asyncWriteListener());
+        return builder.build();
+    }
+
+    /**
+     * 청크 단계별 지표 리스너를 등록하고 Step 생성
+     * 리스너가 여러 리스너 인터페이스를 구현하므로 인터페이스별로 명시하여 등록
+     */
+    private Step buildWithMetrics(SimpleStepBuilder<DataRecord, DataRecord> builder, String tableName) {
+        MigrationMetricsListener metricsListener = new MigrationMetricsListener(tableName, migrationMetrics, statisticsRegistry);
+        builder.listener((StepExecutionListener) metricsListener);
+        builder.listener((ChunkListener) metricsListener);
+        builder.listener((ItemReadListener<DataRecord>) metricsListener);
+        builder.listener((ItemProcessListener<DataRecord, DataRecord>) metricsListener);
+        builder.listener((ItemWriteListener<DataRecord>) metricsListener);
+        return builder.build();
     }
 }
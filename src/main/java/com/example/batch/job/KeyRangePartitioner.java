@@ -0,0 +1,83 @@
+package com.example.batch.job;
+
+import com.example.batch.reader.DatabaseItemReader;
+import com.example.batch.reader.KeyRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기본키 범위 기반 Partitioner
+ * 테이블의 기본키 MIN/MAX를 gridSize 개의 구간으로 나누어 구간별 ExecutionContext 생성
+ * 분할할 수 없는 테이블은 범위 조건 없는 단일 파티션으로 처리
+ */
+public class KeyRangePartitioner implements Partitioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyRangePartitioner.class);
+
+    public static final String TABLE_NAME_KEY = "tableName";
+    public static final String WHERE_CLAUSE_KEY = "whereClause";
+    public static final String KEY_COLUMN_KEY = "keyColumn";
+    public static final String PARTITION_INDEX_KEY = "partitionIndex";
+    public static final String MIN_KEY = "minKey";
+    public static final String MAX_KEY = "maxKey";
+
+    private final DatabaseItemReader databaseItemReader;
+    private final DataSource sourceDataSource;
+    private final String tableName;
+    private final String whereClause;
+
+    public KeyRangePartitioner(
+            DatabaseItemReader databaseItemReader,
+            DataSource sourceDataSource,
+            String tableName,
+            String whereClause) {
+        this.databaseItemReader = databaseItemReader;
+        this.sourceDataSource = sourceDataSource;
+        this.tableName = tableName;
+        this.whereClause = whereClause;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        String keyColumn = databaseItemReader.findPrimaryKeyColumn(sourceDataSource, tableName);
+        KeyRange fullRange = keyColumn != null
+                ? databaseItemReader.findKeyRange(sourceDataSource, tableName, keyColumn, whereClause)
+                : null;
+
+        if (fullRange == null) {
+            logger.info("Table {} cannot be split by key, using a single partition", tableName);
+            partitions.put(tableName + ":partition0", createContext(0));
+            return partitions;
+        }
+
+        for (KeyRange range : databaseItemReader.splitKeyRange(fullRange, gridSize)) {
+            ExecutionContext context = createContext(range.getIndex());
+            context.putString(KEY_COLUMN_KEY, keyColumn);
+            context.putLong(MIN_KEY, range.getMinKey());
+            context.putLong(MAX_KEY, range.getMaxKey());
+            partitions.put(tableName + ":partition" + range.getIndex(), context);
+        }
+
+        logger.info("Partitioned table {} into {} ranges on key {} ({})",
+            tableName, partitions.size(), keyColumn, fullRange);
+        return partitions;
+    }
+
+    private ExecutionContext createContext(int index) {
+        ExecutionContext context = new ExecutionContext();
+        context.putString(TABLE_NAME_KEY, tableName);
+        context.putInt(PARTITION_INDEX_KEY, index);
+        if (whereClause != null) {
+            context.putString(WHERE_CLAUSE_KEY, whereClause);
+        }
+        return context;
+    }
+}
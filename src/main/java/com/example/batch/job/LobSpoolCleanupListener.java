@@ -0,0 +1,27 @@
+package com.example.batch.job;
+
+import com.example.batch.model.LobValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * Step 종료 시 남은 LOB 임시 파일을 삭제하는 리스너
+ * Writer는 기록이 끝난 LOB만 삭제하고 실패한 청크의 LOB은 재시도를 위해 남겨두므로,
+ * 필터/skip/실패 행의 임시 파일은 Step이 끝난 뒤(성공/실패 무관) 여기서 정리됨
+ */
+public class LobSpoolCleanupListener implements StepExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(LobSpoolCleanupListener.class);
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        int deleted = LobValue.releaseSpoolFiles(stepExecution);
+        if (deleted > 0) {
+            logger.info("Deleted {} leftover LOB spool files for step: {}", deleted, stepExecution.getStepName());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.batch.job;
+
+import com.example.batch.config.BatchProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * REST API로 요청한 Job을 비동기로 실행하는 제한된 크기의 Job 큐
+ * jobLaunchTaskExecutor 스레드 수만큼 동시에 실행하고 나머지는 대기시키며,
+ * 실행 중 + 대기 Job 수가 한도에 도달하면 새 요청을 거부함
+ *
+ * 실행 요청은 JobExecution 생성 직후 반환되므로 HTTP 스레드가 이관이 끝날 때까지 묶이지 않음
+ * 대기 중인 Job은 STARTING, 실행 중인 Job은 STARTED 상태
+ */
+@Component
+public class MigrationJobQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(MigrationJobQueue.class);
+
+    private final TaskExecutorJobLauncher jobLauncher;
+    private final BatchProperties batchProperties;
+    // 이 큐로 실행한 Job 중 아직 끝나지 않은 실행
+    private final Map<Long, JobExecution> activeExecutions = new ConcurrentHashMap<>();
+
+    public MigrationJobQueue(
+            JobRepository jobRepository,
+            @Qualifier("jobLaunchTaskExecutor") TaskExecutor jobLaunchTaskExecutor,
+            BatchProperties batchProperties) {
+        this.batchProperties = batchProperties;
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(jobLaunchTaskExecutor);
+        try {
+            jobLauncher.afterPropertiesSet();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialize migration job launcher", e);
+        }
+    }
+
+    /**
+     * Job 실행 요청 (대기열에 넣고 바로 반환)
+     *
+     * @return 생성된 JobExecution (대기 중이면 STARTING 상태)
+     * @throws TaskRejectedException 실행 중 + 대기 Job 수가 한도에 도달한 경우
+     */
+    public synchronized JobExecution submit(Job job, JobParameters jobParameters)
+            throws JobExecutionAlreadyRunningException, JobRestartException,
+            JobInstanceAlreadyCompleteException, JobParametersInvalidException {
+
+        removeFinished();
+        int capacity = getCapacity();
+        if (activeExecutions.size() >= capacity) {
+            throw new TaskRejectedException("Job queue is full (" + capacity + " jobs running or queued), "
+                    + "rejected job: " + job.getName());
+        }
+
+        JobExecution jobExecution = jobLauncher.run(job, jobParameters);
+        activeExecutions.put(jobExecution.getId(), jobExecution);
+
+        logger.info("Queued job {} (execution {}), active jobs: {}/{}",
+            job.getName(), jobExecution.getId(), activeExecutions.size(), capacity);
+        return jobExecution;
+    }
+
+    /**
+     * 실행 대기 중인 Job 목록 (요청 순)
+     */
+    public List<JobExecution> getQueuedJobs() {
+        return activeJobs().stream()
+                .filter(execution -> execution.getStatus() == BatchStatus.STARTING)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 실행 중인 Job 목록 (요청 순)
+     */
+    public List<JobExecution> getRunningJobs() {
+        return activeJobs().stream()
+                .filter(execution -> execution.getStatus() != BatchStatus.STARTING)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * REST 응답용 큐 상태
+     */
+    public Map<String, Object> snapshot() {
+        List<Map<String, Object>> queued = new ArrayList<>();
+        getQueuedJobs().forEach(execution -> queued.add(toMap(execution)));
+        List<Map<String, Object>> running = new ArrayList<>();
+        getRunningJobs().forEach(execution -> running.add(toMap(execution)));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("maxConcurrentJobs", batchProperties.getLauncher().getMaxConcurrentJobs());
+        snapshot.put("queueCapacity", batchProperties.getLauncher().getQueueCapacity());
+        snapshot.put("queued", queued);
+        snapshot.put("running", running);
+        return snapshot;
+    }
+
+    private List<JobExecution> activeJobs() {
+        removeFinished();
+        return activeExecutions.values().stream()
+                .sorted(Comparator.comparing(JobExecution::getId))
+                .collect(Collectors.toList());
+    }
+
+    private void removeFinished() {
+        activeExecutions.values().removeIf(execution -> !execution.isRunning());
+    }
+
+    /**
+     * 동시에 받을 수 있는 Job 수 (실행 스레드 수 + 대기열 크기)
+     */
+    private int getCapacity() {
+        BatchProperties.Launcher launcher = batchProperties.getLauncher();
+        return launcher.getMaxConcurrentJobs() + launcher.getQueueCapacity();
+    }
+
+    private Map<String, Object> toMap(JobExecution execution) {
+        Map<String, Object> job = new LinkedHashMap<>();
+        job.put("jobExecutionId", execution.getId());
+        job.put("jobName", execution.getJobInstance().getJobName());
+        job.put("status", execution.getStatus().toString());
+        job.put("createTime", execution.getCreateTime());
+        job.put("startTime", execution.getStartTime());
+        job.put("parameters", execution.getJobParameters().toString());
+        return job;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.batch.job;
+
+import java.util.List;
+
+/**
+ * 외래키 의존성으로 나눈 이관 단계 하나
+ * 순환 참조 단계(cyclic)의 테이블은 서로를 참조하므로 어떤 순서로도 외래키를 만족시킬 수 없어,
+ * 병렬 대신 순차로 실행하고 타겟의 외래키 검사를 끈 채로 적재함
+ */
+public final class MigrationLevel {
+
+    private final List<String> tables;
+    private final boolean cyclic;
+
+    MigrationLevel(List<String> tables, boolean cyclic) {
+        this.tables = List.copyOf(tables);
+        this.cyclic = cyclic;
+    }
+
+    public List<String> getTables() {
+        return tables;
+    }
+
+    public boolean isCyclic() {
+        return cyclic;
+    }
+
+    @Override
+    public String toString() {
+        return cyclic ? tables + "(cyclic)" : tables.toString();
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.batch.job;
+
+import com.example.batch.model.DataRecord;
+import com.example.batch.model.LobValue;
+import com.example.batch.statistics.MigrationMetrics;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.Future;
+
+/**
+ * 청크 단위로 읽기/변환/쓰기 소요 시간을 측정하여 MigrationMetrics에 기록하는 리스너
+ * 청크 하나는 한 스레드에서 처리되므로 측정값은 스레드별로 누적하며,
+ * 파티션 워커나 멀티스레드 Step이 같은 리스너를 공유해도 섞이지 않음
+ *
+ * 파이프라인 모드에서는 변환이 Reader 안에서 수행되므로 읽기 시간은 변환 완료 대기 시간을 뜻함
+ * ASYNC 변환 모드에서는 변환이 다른 스레드에서 수행되므로 변환 시간은 기록하지 않고,
+ * 쓰기 시간에 변환 결과 대기 시간이 포함됨 (asyncWriteListener 사용)
+ *
+ * 진행 상황 조회(MigrationProgressService)에서 청크 Step을 테이블별로 묶을 수 있도록
+ * Step 시작 시 ExecutionContext에 테이블명을 기록함 (파티션 Worker는 Partitioner가 이미 기록)
+ * 읽은 행 수도 Step별 통계에 바로 집계함 (StepExecution의 읽기 건수는 청크 커밋 시에만 갱신됨)
+ */
+public class MigrationMetricsListener implements StepExecutionListener, ChunkListener, ItemReadListener<DataRecord>,
+        ItemProcessListener<DataRecord, DataRecord>, ItemWriteListener<DataRecord> {
+
+    /**
+     * 문자열/바이너리가 아닌 값의 예상 크기 (숫자, 날짜 등)
+     */
+    private static final int ESTIMATED_SCALAR_BYTES = 8;
+
+    private final String tableName;
+    private final MigrationMetrics migrationMetrics;
+    private final MigrationStatisticsRegistry statisticsRegistry;
+    private final ThreadLocal<ChunkTimings> timings = ThreadLocal.withInitial(ChunkTimings::new);
+
+    public MigrationMetricsListener(String tableName, MigrationMetrics migrationMetrics,
+                                    MigrationStatisticsRegistry statisticsRegistry) {
+        this.tableName = tableName;
+        this.migrationMetrics = migrationMetrics;
+        this.statisticsRegistry = statisticsRegistry;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        if (!stepExecution.getExecutionContext().containsKey(KeyRangePartitioner.TABLE_NAME_KEY)) {
+            stepExecution.getExecutionContext().putString(KeyRangePartitioner.TABLE_NAME_KEY, tableName);
+        }
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        ChunkTimings chunk = timings.get();
+        chunk.reset();
+        chunk.stepName = context.getStepContext().getStepName();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        ChunkTimings chunk = timings.get();
+        if (chunk.stepName == null) {
+            return;
+        }
+        // 마지막 청크 이후 빈 청크(읽을 행 없음)는 기록하지 않음
+        if (chunk.readCount > 0) {
+            migrationMetrics.recordRead(tableName, chunk.stepName, chunk.readNanos);
+            migrationMetrics.recordBytesRead(tableName, chunk.stepName, chunk.bytesRead);
+        }
+        if (chunk.processCount > 0) {
+            migrationMetrics.recordProcess(tableName, chunk.stepName, chunk.processNanos);
+        }
+        chunk.reset();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        timings.get().reset();
+    }
+
+    @Override
+    public void beforeRead() {
+        timings.get().readStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(DataRecord item) {
+        ChunkTimings chunk = timings.get();
+        chunk.readNanos += System.nanoTime() - chunk.readStart;
+        chunk.readCount++;
+        chunk.bytesRead += estimateSize(item);
+        statisticsRegistry.current().incrementRead();
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        ChunkTimings chunk = timings.get();
+        chunk.readNanos += System.nanoTime() - chunk.readStart;
+    }
+
+    @Override
+    public void beforeProcess(DataRecord item) {
+        timings.get().processStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterProcess(DataRecord item, DataRecord result) {
+        ChunkTimings chunk = timings.get();
+        chunk.processNanos += System.nanoTime() - chunk.processStart;
+        chunk.processCount++;
+    }
+
+    @Override
+    public void onProcessError(DataRecord item, Exception e) {
+        ChunkTimings chunk = timings.get();
+        chunk.processNanos += System.nanoTime() - chunk.processStart;
+        chunk.processCount++;
+    }
+
+    @Override
+    public void beforeWrite(Chunk<? extends DataRecord> items) {
+        timings.get().writeStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends DataRecord> items) {
+        recordWrite(items.size());
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<? extends DataRecord> items) {
+        recordWrite(items.size());
+    }
+
+    /**
+     * ASYNC 변환 모드(AsyncItemWriter)용 쓰기 리스너
+     * 쓰기 아이템이 변환 결과 Future이므로 건수만 사용하여 같은 쓰기 지표를 기록
+     */
+    public ItemWriteListener<Future<DataRecord>> asyncWriteListener() {
+        return new ItemWriteListener<>() {
+            @Override
+            public void beforeWrite(Chunk<? extends Future<DataRecord>> items) {
+                timings.get().writeStart = System.nanoTime();
+            }
+
+            @Override
+            public void afterWrite(Chunk<? extends Future<DataRecord>> items) {
+                recordWrite(items.size());
+            }
+
+            @Override
+            public void onWriteError(Exception exception, Chunk<? extends Future<DataRecord>> items) {
+                recordWrite(items.size());
+            }
+        };
+    }
+
+    private void recordWrite(int rows) {
+        ChunkTimings chunk = timings.get();
+        if (chunk.stepName == null) {
+            return;
+        }
+        migrationMetrics.recordWrite(tableName, chunk.stepName, System.nanoTime() - chunk.writeStart);
+        migrationMetrics.recordRows(tableName, chunk.stepName, rows);
+    }
+
+    /**
+     * 읽은 행의 크기 추정 (문자열은 소스의 NVARCHAR 기준 2바이트/문자)
+     */
+    private long estimateSize(DataRecord item) {
+        Collection<Object> values;
+        if (item.isSchemaBacked()) {
+            values = Arrays.asList(item.getValues());
+        } else if (item.getData() != null) {
+            values = item.getData().values();
+        } else {
+            return 0;
+        }
+
+        long size = 0;
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof CharSequence) {
+                size += ((CharSequence) value).length() * 2L;
+            } else if (value instanceof byte[]) {
+                size += ((byte[]) value).length;
+            } else if (value instanceof LobValue) {
+                LobValue lob = (LobValue) value;
+                size += lob.isCharacter() ? lob.length() * 2 : lob.length();
+            } else {
+                size += ESTIMATED_SCALAR_BYTES;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 스레드별 청크 측정값
+     */
+    private static final class ChunkTimings {
+
+        private String stepName;
+        private long readStart;
+        private long readNanos;
+        private int readCount;
+        private long bytesRead;
+        private long processStart;
+        private long processNanos;
+        private int processCount;
+        private long writeStart;
+
+        private void reset() {
+            stepName = null;
+            readNanos = 0;
+            readCount = 0;
+            bytesRead = 0;
+            processNanos = 0;
+            processCount = 0;
+        }
+    }
+}
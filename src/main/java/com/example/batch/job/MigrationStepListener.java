@@ -1,5 +1,7 @@
 package com.example.batch.job;
 
+import com.example.batch.statistics.MigrationStatistics;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.ExitStatus;
@@ -18,11 +20,13 @@ public class MigrationStepListener implements StepExecutionListener {
     private static final Logger logger = LoggerFactory.getLogger(MigrationStepListener.class);
     
     private final String tableName;
+    private final MigrationStatisticsRegistry statisticsRegistry;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
 
-    public MigrationStepListener(String tableName) {
+    public MigrationStepListener(String tableName, MigrationStatisticsRegistry statisticsRegistry) {
         this.tableName = tableName;
+        this.statisticsRegistry = statisticsRegistry;
     }
 
     @Override
@@ -64,6 +68,14 @@ public class MigrationStepListener implements StepExecutionListener {
         logger.info("Records Filtered: {}", filterCount);
         logger.info("Commits: {}", commitCount);
         logger.info("Rollbacks: {}", rollbackCount);
+
+        // Processor/Writer가 집계한 이 Step의 통계
+        MigrationStatistics statistics = statisticsRegistry.getStep(stepExecution.getId());
+        if (statistics != null) {
+            logger.info("Process Errors: {}", statistics.getProcessErrors());
+            logger.info("Write Errors: {}", statistics.getWriteErrors());
+            logger.info("Dead-lettered: {}", statistics.getDeadLettered());
+        }
         
         // 성능 지표 계산
         if (duration.getSeconds() > 0) {
@@ -0,0 +1,101 @@
+package com.example.batch.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 소스 DB의 외래키 관계로 테이블 이관 순서를 계산하는 컴포넌트
+ * 부모 테이블이 모두 끝난 테이블끼리 같은 단계(level)로 묶어 병렬 실행할 수 있도록 함
+ * 단계 사이에는 장벽이 있어 테이블은 자신의 부모뿐 아니라 앞 단계의 모든 테이블이 끝날 때까지 대기함
+ */
+@Component
+public class TableDependencyResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(TableDependencyResolver.class);
+
+    private static final String FOREIGN_KEY_QUERY =
+            "SELECT DISTINCT OBJECT_NAME(fk.parent_object_id) AS child_table, " +
+            "       OBJECT_NAME(fk.referenced_object_id) AS parent_table " +
+            "FROM sys.foreign_keys fk";
+
+    private final JdbcTemplate sourceJdbcTemplate;
+
+    public TableDependencyResolver(@Qualifier("sourceDataSource") DataSource sourceDataSource) {
+        this.sourceJdbcTemplate = new JdbcTemplate(sourceDataSource);
+    }
+
+    /**
+     * 외래키 관계를 조회하여 테이블을 실행 단계별로 묶음
+     *
+     * @param tables 이관 대상 테이블 목록
+     * @return 실행 단계 목록 (앞 단계가 모두 끝나야 다음 단계 실행)
+     */
+    public List<MigrationLevel> resolveLevels(Collection<String> tables) {
+        return buildLevels(tables, loadParents(tables));
+    }
+
+    /**
+     * 대상 테이블별 부모 테이블 조회 (sys.foreign_keys 기준)
+     * 대상 밖의 테이블과 자기 참조는 의존성에서 제외
+     */
+    public Map<String, Set<String>> loadParents(Collection<String> tables) {
+        Set<String> targetTables = new HashSet<>(tables);
+        Map<String, Set<String>> parents = new HashMap<>();
+
+        sourceJdbcTemplate.query(FOREIGN_KEY_QUERY, rs -> {
+            String child = rs.getString("child_table");
+            String parent = rs.getString("parent_table");
+            if (targetTables.contains(child) && targetTables.contains(parent) && !child.equals(parent)) {
+                parents.computeIfAbsent(child, key -> new LinkedHashSet<>()).add(parent);
+            }
+        });
+
+        logger.info("Loaded foreign key dependencies: {}", parents);
+        return parents;
+    }
+
+    /**
+     * 위상 정렬로 실행 단계 구성
+     * 순환 참조로 정렬되지 않는 테이블은 마지막 순환 참조 단계(cyclic)에 모아서 실행
+     */
+    static List<MigrationLevel> buildLevels(Collection<String> tables, Map<String, Set<String>> parents) {
+        Set<String> remaining = new LinkedHashSet<>(tables);
+        Set<String> completed = new HashSet<>();
+        List<MigrationLevel> levels = new ArrayList<>();
+
+        while (!remaining.isEmpty()) {
+            List<String> level = new ArrayList<>();
+            for (String table : remaining) {
+                if (completed.containsAll(parents.getOrDefault(table, Set.of()))) {
+                    level.add(table);
+                }
+            }
+
+            if (level.isEmpty()) {
+                logger.warn("Circular foreign key dependencies detected among tables: {}", remaining);
+                levels.add(new MigrationLevel(new ArrayList<>(remaining), true));
+                break;
+            }
+
+            level.forEach(remaining::remove);
+            completed.addAll(level);
+            levels.add(new MigrationLevel(level, false));
+        }
+
+        logger.info("Resolved migration levels: {}", levels);
+        return levels;
+    }
+}
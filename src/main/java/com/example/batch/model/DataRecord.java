@@ -1,27 +1,53 @@
 package com.example.batch.model;
 
 import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * 데이터 이관을 위한 범용 데이터 레코드 클래스
- * 다양한 테이블 구조에 대응할 수 있도록 Map 기반으로 설계
+ * 다양한 테이블 구조에 대응할 수 있도록 설계
+ * - 스키마 기반: 테이블 단위로 공유되는 RecordSchema + 행별 Object[] 값 (Reader에서 생성)
+ * - Map 기반: 컬럼명 -> 값 Map (기존 방식, 임의 구조의 레코드용)
  */
 public class DataRecord {
     
     private String tableName;
+    private RecordSchema schema;
+    private Object[] values;
     private Map<String, Object> data;
+    private Map<String, Object> dataView;
     private LocalDateTime processedAt;
     private String sourceQuery;
     
     public DataRecord() {
-        this.processedAt = LocalDateTime.now();
     }
     
     public DataRecord(String tableName, Map<String, Object> data) {
         this.tableName = tableName;
         this.data = data;
-        this.processedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 스키마 기반 레코드 생성
+     *
+     * @param tableName 테이블명
+     * @param schema 테이블 단위로 공유되는 컬럼 구조
+     * @param values 스키마 컬럼 순서와 같은 순서의 값 배열
+     */
+    public DataRecord(String tableName, RecordSchema schema, Object[] values) {
+        if (schema.getColumnCount() != values.length) {
+            throw new IllegalArgumentException("Expected " + schema.getColumnCount()
+                    + " values for schema but got " + values.length);
+        }
+        this.tableName = tableName;
+        this.schema = schema;
+        this.values = values;
     }
     
     public String getTableName() {
@@ -31,15 +57,55 @@ public class DataRecord {
     public void setTableName(String tableName) {
         this.tableName = tableName;
     }
-    
+
+    /**
+     * 컬럼명 -> 값 Map 반환
+     * 스키마 기반 레코드는 값 배열을 그대로 보여주는 view를 반환하며,
+     * view에는 스키마에 없는 컬럼을 추가할 수 없음 (setValue 사용)
+     */
     public Map<String, Object> getData() {
+        if (values != null) {
+            if (dataView == null) {
+                dataView = new SchemaBackedMap();
+            }
+            return dataView;
+        }
         return data;
     }
     
     public void setData(Map<String, Object> data) {
         this.data = data;
+        this.schema = null;
+        this.values = null;
+        this.dataView = null;
+    }
+
+    /**
+     * 스키마 기반 레코드 여부
+     */
+    public boolean isSchemaBacked() {
+        return values != null;
+    }
+
+    /**
+     * 공유 스키마 반환 (Map 기반 레코드는 null)
+     */
+    public RecordSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * 스키마 컬럼 순서의 값 배열 반환 (Map 기반 레코드는 null)
+     */
+    public Object[] getValues() {
+        return values;
     }
     
+    /**
+     * 처리 시각
+     * Reader는 행마다 시각을 구하지 않으므로 변환 전에는 null이며,
+     * DataTransformProcessor가 변환 시 migrated_at과 같은 시각(청크 변환 시 청크당 한 번)으로 설정
+     */
     public LocalDateTime getProcessedAt() {
         return processedAt;
     }
@@ -57,21 +123,123 @@ public class DataRecord {
     }
     
     public Object getValue(String columnName) {
+        if (values != null) {
+            int index = schema.indexOf(columnName);
+            return index >= 0 ? values[index] : null;
+        }
         return data != null ? data.get(columnName) : null;
     }
+
+    /**
+     * 위치로 값 조회 (스키마 기반 레코드 전용)
+     */
+    public Object getValue(int index) {
+        return values[index];
+    }
     
     public void setValue(String columnName, Object value) {
+        if (values != null) {
+            int index = schema.indexOf(columnName);
+            if (index >= 0) {
+                values[index] = value;
+                return;
+            }
+            // 스키마에 없는 컬럼이 추가되면 Map 기반으로 전환
+            setData(toMap());
+        }
         if (data != null) {
             data.put(columnName, value);
         }
     }
+
+    /**
+     * 컬럼 순서를 유지한 Map 복사본 생성
+     */
+    private Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>(RecordSchema.mapCapacity(values.length + 1));
+        for (int i = 0; i < values.length; i++) {
+            map.put(schema.getColumnName(i), values[i]);
+        }
+        return map;
+    }
+
+    private int size() {
+        if (values != null) {
+            return values.length;
+        }
+        return data != null ? data.size() : 0;
+    }
     
     @Override
     public String toString() {
         return "DataRecord{" +
                 "tableName='" + tableName + '\'' +
-                ", dataSize=" + (data != null ? data.size() : 0) +
+                ", dataSize=" + size() +
                 ", processedAt=" + processedAt +
                 '}';
     }
+
+    /**
+     * 값 배열을 컬럼명으로 조회할 수 있게 해주는 Map view
+     */
+    private class SchemaBackedMap extends AbstractMap<String, Object> {
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && schema.indexOf((String) key) >= 0;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? getValue((String) key) : null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            int index = schema.indexOf(key);
+            if (index < 0) {
+                throw new UnsupportedOperationException(
+                    "Column '" + key + "' is not part of the record schema, use DataRecord.setValue");
+            }
+            Object previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return values.length;
+                }
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (index >= values.length) {
+                                throw new NoSuchElementException();
+                            }
+                            int current = index++;
+                            return new SimpleImmutableEntry<>(schema.getColumnName(current), values[current]);
+                        }
+                    };
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,265 @@
+package com.example.batch.model;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.jdbc.core.SqlTypeValue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 임계값보다 큰 LOB(NTEXT, NVARCHAR(MAX), VARBINARY(MAX) 등) 값
+ * 값 전체를 힙에 올리지 않고 소스 스트림을 임시 파일로 흘려 보낸 뒤,
+ * INSERT 시 setCharacterStream/setBinaryStream으로 타겟에 스트리밍
+ * SqlTypeValue를 구현하므로 JdbcTemplate 파라미터로 그대로 전달 가능
+ * (실행할 때마다 새 스트림을 열므로 재시도/개별 INSERT에서도 재사용 가능)
+ *
+ * 임시 파일은 읽은 Step 실행별로 기록되어, 기록 후 release되지 않은 파일(필터/skip/실패 행)은
+ * Step 종료 시 releaseSpoolFiles로 삭제됨 (LobSpoolCleanupListener 참고)
+ */
+public final class LobValue implements SqlTypeValue {
+
+    private static final Logger logger = LoggerFactory.getLogger(LobValue.class);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Step 실행 ID별로 아직 삭제되지 않은 임시 파일
+    private static final Map<Long, Set<Path>> spoolFilesByStep = new ConcurrentHashMap<>();
+
+    private final Path spoolFile;
+    private final Long stepExecutionId;
+    private final long length;
+    private final boolean character;
+    private final List<Closeable> openStreams = new ArrayList<>();
+
+    private LobValue(SpoolFile spool, long length, boolean character) {
+        this.spoolFile = spool.path;
+        this.stepExecutionId = spool.stepExecutionId;
+        this.length = length;
+        this.character = character;
+    }
+
+    /**
+     * 문자 LOB 읽기
+     * 임계값 이하이면 String, 초과하면 임시 파일에 저장된 LobValue 반환
+     *
+     * @param reader 소스 컬럼의 문자 스트림 (호출 후 닫힘)
+     * @param threshold 메모리에 보관할 최대 문자 수
+     */
+    public static Object readCharacters(Reader reader, int threshold) throws IOException {
+        try (Reader source = reader) {
+            // 대부분의 값은 임계값보다 훨씬 작으므로 임계값 크기 배열 대신 작은 버퍼로 읽으며 늘려감
+            char[] chunk = new char[Math.min(BUFFER_SIZE, threshold + 1)];
+            StringBuilder buffer = new StringBuilder(chunk.length);
+            int read;
+            while ((read = source.read(chunk)) != -1) {
+                buffer.append(chunk, 0, read);
+                if (buffer.length() > threshold) {
+                    return spoolCharacters(buffer, source, chunk);
+                }
+            }
+            return buffer.toString();
+        }
+    }
+
+    /**
+     * 임계값을 넘은 문자 LOB을 지금까지 읽은 내용부터 임시 파일로 저장
+     */
+    private static LobValue spoolCharacters(StringBuilder head, Reader source, char[] chunk) throws IOException {
+        SpoolFile spool = createSpoolFile();
+        long length = head.length();
+        try (Writer out = Files.newBufferedWriter(spool.path, StandardCharsets.UTF_8)) {
+            out.append(head);
+            int read;
+            while ((read = source.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+                length += read;
+            }
+        } catch (IOException | RuntimeException e) {
+            spool.delete();
+            throw e;
+        }
+        return new LobValue(spool, length, true);
+    }
+
+    /**
+     * 바이너리 LOB 읽기
+     * 임계값 이하이면 byte[], 초과하면 임시 파일에 저장된 LobValue 반환
+     *
+     * @param stream 소스 컬럼의 바이너리 스트림 (호출 후 닫힘)
+     * @param threshold 메모리에 보관할 최대 바이트 수
+     */
+    public static Object readBytes(InputStream stream, int threshold) throws IOException {
+        try (InputStream source = stream) {
+            byte[] buffer = source.readNBytes(threshold + 1);
+            if (buffer.length <= threshold) {
+                return buffer;
+            }
+
+            SpoolFile spool = createSpoolFile();
+            long length;
+            try (OutputStream out = Files.newOutputStream(spool.path)) {
+                out.write(buffer);
+                length = buffer.length + source.transferTo(out);
+            } catch (IOException | RuntimeException e) {
+                spool.delete();
+                throw e;
+            }
+            return new LobValue(spool, length, false);
+        }
+    }
+
+    /**
+     * 임시 파일 생성 후 현재 스레드의 Step 실행에 기록 (Step 밖에서는 기록하지 않음)
+     */
+    private static SpoolFile createSpoolFile() throws IOException {
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        Long stepExecutionId = stepContext != null ? stepContext.getStepExecution().getId() : null;
+        SpoolFile spool = new SpoolFile(Files.createTempFile("lob-", ".spool"), stepExecutionId);
+        if (stepExecutionId != null) {
+            spoolFilesByStep.computeIfAbsent(stepExecutionId, id -> ConcurrentHashMap.newKeySet()).add(spool.path);
+        }
+        return spool;
+    }
+
+    /**
+     * Step 실행 중 생성되어 아직 삭제되지 않은 임시 파일 모두 삭제 (Step 종료 후 호출)
+     *
+     * @return 삭제한 파일 수
+     */
+    public static int releaseSpoolFiles(StepExecution stepExecution) {
+        Set<Path> files = stepExecution.getId() != null ? spoolFilesByStep.remove(stepExecution.getId()) : null;
+        if (files == null) {
+            return 0;
+        }
+        int deleted = 0;
+        for (Path file : files) {
+            try {
+                if (Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                logger.warn("Failed to delete LOB spool file {}: {}", file, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 문자 LOB이면 문자 수, 바이너리 LOB이면 바이트 수
+     */
+    public long length() {
+        return length;
+    }
+
+    public boolean isCharacter() {
+        return character;
+    }
+
+    /**
+     * 저장된 값을 읽는 새 문자 스트림 생성 (문자 LOB 전용)
+     */
+    public Reader openReader() throws IOException {
+        return Files.newBufferedReader(spoolFile, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 저장된 값을 읽는 새 바이너리 스트림 생성 (바이너리 LOB 전용)
+     */
+    public InputStream openStream() throws IOException {
+        return Files.newInputStream(spoolFile);
+    }
+
+    @Override
+    public void setTypeValue(PreparedStatement ps, int paramIndex, int sqlType, String typeName) throws SQLException {
+        try {
+            if (character) {
+                Reader reader = openReader();
+                openStreams.add(reader);
+                ps.setCharacterStream(paramIndex, reader, length);
+            } else {
+                InputStream stream = openStream();
+                openStreams.add(stream);
+                ps.setBinaryStream(paramIndex, stream, length);
+            }
+        } catch (IOException e) {
+            throw new SQLException("Failed to open spooled LOB value: " + spoolFile, e);
+        }
+    }
+
+    /**
+     * 실행이 끝난 문장에 바인딩했던 스트림 닫기
+     */
+    public void closeStreams() {
+        for (Closeable stream : openStreams) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close LOB stream for {}: {}", spoolFile, e.getMessage());
+            }
+        }
+        openStreams.clear();
+    }
+
+    /**
+     * 임시 파일 삭제 (타겟에 기록이 끝난 뒤 호출)
+     */
+    public void release() {
+        closeStreams();
+        new SpoolFile(spoolFile, stepExecutionId).delete();
+    }
+
+    @Override
+    public String toString() {
+        return "LobValue{" +
+                "length=" + length +
+                ", character=" + character +
+                '}';
+    }
+
+    /**
+     * 임시 파일 경로와 파일을 생성한 Step 실행 ID
+     */
+    private static final class SpoolFile {
+
+        private final Path path;
+        private final Long stepExecutionId;
+
+        private SpoolFile(Path path, Long stepExecutionId) {
+            this.path = path;
+            this.stepExecutionId = stepExecutionId;
+        }
+
+        private void delete() {
+            if (stepExecutionId != null) {
+                Set<Path> files = spoolFilesByStep.get(stepExecutionId);
+                if (files != null) {
+                    files.remove(path);
+                }
+            }
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete LOB spool file: " + path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.batch.model;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이블(ResultSet) 단위로 공유되는 불변 컬럼 구조 정보
+ * 컬럼명, JDBC 타입, 위치(0부터 시작, JDBC 컬럼 번호 = 위치 + 1)를 한 번만 계산하여 모든 행에서 재사용
+ */
+public final class RecordSchema {
+
+    /**
+     * NVARCHAR(MAX), VARBINARY(MAX) 등 MAX 타입 컬럼이 보고하는 최소 precision
+     */
+    private static final int MAX_TYPE_PRECISION = 1073741823;
+
+    private static final byte NOT_LOB = 0;
+    private static final byte CHARACTER_LOB = 1;
+    private static final byte BINARY_LOB = 2;
+
+    private final String[] columnNames;
+    private final int[] jdbcTypes;
+    private final byte[] lobKinds;
+    private final Map<String, Integer> indexByName;
+
+    private RecordSchema(String[] columnNames, int[] jdbcTypes, int[] precisions) {
+        this.columnNames = columnNames;
+        this.jdbcTypes = jdbcTypes;
+        this.lobKinds = new byte[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            lobKinds[i] = lobKind(jdbcTypes[i], precisions[i]);
+        }
+
+        Map<String, Integer> index = new HashMap<>(mapCapacity(columnNames.length));
+        for (int i = 0; i < columnNames.length; i++) {
+            index.putIfAbsent(columnNames[i], i);
+        }
+        this.indexByName = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * ResultSet 메타데이터로부터 스키마 생성
+     */
+    public static RecordSchema from(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        String[] names = new String[columnCount];
+        int[] types = new int[columnCount];
+        int[] precisions = new int[columnCount];
+
+        for (int i = 0; i < columnCount; i++) {
+            names[i] = metaData.getColumnName(i + 1);
+            types[i] = metaData.getColumnType(i + 1);
+            precisions[i] = metaData.getPrecision(i + 1);
+        }
+        return new RecordSchema(names, types, precisions);
+    }
+
+    /**
+     * 컬럼명 목록으로 스키마 생성 (JDBC 타입을 알 수 없는 경우)
+     */
+    public static RecordSchema of(List<String> columnNames) {
+        int[] types = new int[columnNames.size()];
+        Arrays.fill(types, Types.OTHER);
+        return new RecordSchema(columnNames.toArray(new String[0]), types, new int[columnNames.size()]);
+    }
+
+    /**
+     * JDBC 타입과 precision으로 LOB 여부 판단
+     */
+    private static byte lobKind(int jdbcType, int precision) {
+        switch (jdbcType) {
+            case Types.LONGVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+                return CHARACTER_LOB;
+            case Types.VARCHAR:
+            case Types.NVARCHAR:
+                return precision >= MAX_TYPE_PRECISION ? CHARACTER_LOB : NOT_LOB;
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return BINARY_LOB;
+            case Types.VARBINARY:
+                return precision >= MAX_TYPE_PRECISION ? BINARY_LOB : NOT_LOB;
+            default:
+                return NOT_LOB;
+        }
+    }
+
+    /**
+     * 지정한 개수의 항목을 재해싱 없이 담을 수 있는 HashMap 초기 용량
+     */
+    public static int mapCapacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public String getColumnName(int index) {
+        return columnNames[index];
+    }
+
+    public int getJdbcType(int index) {
+        return jdbcTypes[index];
+    }
+
+    /**
+     * 문자 LOB 컬럼 여부 (NTEXT, NVARCHAR(MAX) 등)
+     */
+    public boolean isCharacterLob(int index) {
+        return lobKinds[index] == CHARACTER_LOB;
+    }
+
+    /**
+     * 바이너리 LOB 컬럼 여부 (IMAGE, VARBINARY(MAX) 등)
+     */
+    public boolean isBinaryLob(int index) {
+        return lobKinds[index] == BINARY_LOB;
+    }
+
+    /**
+     * LOB 컬럼이 하나라도 있는지 여부
+     */
+    public boolean hasLobColumns() {
+        for (byte kind : lobKinds) {
+            if (kind != NOT_LOB) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 컬럼명의 위치 반환
+     *
+     * @return 0부터 시작하는 위치, 없는 컬럼이면 -1
+     */
+    public int indexOf(String columnName) {
+        Integer index = indexByName.get(columnName);
+        return index != null ? index : -1;
+    }
+
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(Arrays.asList(columnNames));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RecordSchema)) {
+            return false;
+        }
+        RecordSchema that = (RecordSchema) o;
+        return Arrays.equals(columnNames, that.columnNames) && Arrays.equals(jdbcTypes, that.jdbcTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(columnNames) + Arrays.hashCode(jdbcTypes);
+    }
+
+    @Override
+    public String toString() {
+        return "RecordSchema{" +
+                "columns=" + Arrays.toString(columnNames) +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.batch.processor;
+
+import com.example.batch.model.DataRecord;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * 청크 단위 변환 모드(ProcessMode.CHUNK)용 ItemWriter
+ * Step은 PassThroughItemProcessor로 읽은 레코드를 그대로 넘기고,
+ * 이 Writer가 청크 전체를 DataTransformProcessor.processChunk로 변환한 뒤 실제 Writer에 전달함
+ *
+ * 변환 시간은 쓰기 단계 지표(migration.chunk.write)에 포함되고,
+ * 검증 실패로 제외된 행은 Step의 filterCount가 아닌 처리 오류 통계로만 집계됨
+ * 처리 통계는 실제 Writer가 성공한 뒤에만 반영하여, 쓰기 재시도/스캔으로 다시 변환되는 청크를 중복 집계하지 않음
+ */
+public class ChunkTransformingItemWriter implements ItemWriter<DataRecord> {
+
+    private final DataTransformProcessor processor;
+    private final ItemWriter<DataRecord> delegate;
+
+    public ChunkTransformingItemWriter(DataTransformProcessor processor, ItemWriter<DataRecord> delegate) {
+        this.processor = processor;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void write(Chunk<? extends DataRecord> chunk) throws Exception {
+        Chunk<DataRecord> transformed = processor.processChunk(chunk);
+        if (!transformed.isEmpty()) {
+            delegate.write(transformed);
+        }
+        processor.recordChunkProcessed(chunk, transformed);
+    }
+}
@@ -1,233 +1,223 @@
 package com.example.batch.processor;
 
+import com.example.batch.config.BatchProperties;
 import com.example.batch.model.DataRecord;
+import com.example.batch.statistics.MigrationStatistics;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 데이터 변환 및 검증을 수행하는 ItemProcessor
  * MSSQL에서 MariaDB로 이관 시 필요한 데이터 변환 로직 포함
- * 한글 컬럼명/값을 영어로 변환하는 로직 포함
+ * 한글 컬럼명/값을 영어로 변환하는 로직 포함 (매핑은 MappingDictionaryRegistry의 매핑 사전 사용)
  */
 @Component
 public class DataTransformProcessor implements ItemProcessor<DataRecord, DataRecord> {
 
     private static final Logger logger = LoggerFactory.getLogger(DataTransformProcessor.class);
 
-    private long processedCount = 0;
-    private long errorCount = 0;
-
-    // 한글 -> 영어 테이블명 매핑
-    private static final Map<String, String> TABLE_NAME_MAPPING = new HashMap<>();
-
-    // 한글 -> 영어 컬럼명 매핑
-    private static final Map<String, Map<String, String>> COLUMN_NAME_MAPPING = new HashMap<>();
-
-    // 한글 -> 영어 값 매핑
-    private static final Map<String, Map<String, String>> VALUE_MAPPING = new HashMap<>();
-
-    static {
-        initializeTableMapping();
-        initializeColumnMapping();
-        initializeValueMapping();
-    }
-
-    /**
-     * 테이블명 매핑 초기화
-     */
-    private static void initializeTableMapping() {
-        TABLE_NAME_MAPPING.put("사용자", "users");
-        TABLE_NAME_MAPPING.put("상품", "products");
-        TABLE_NAME_MAPPING.put("주문", "orders");
-        TABLE_NAME_MAPPING.put("주문상세", "order_details");
-        TABLE_NAME_MAPPING.put("카테고리", "categories");
-        TABLE_NAME_MAPPING.put("리뷰", "reviews");
-        TABLE_NAME_MAPPING.put("공지사항", "notices");
-        TABLE_NAME_MAPPING.put("쿠폰", "coupons");
-        TABLE_NAME_MAPPING.put("배송", "deliveries");
-        TABLE_NAME_MAPPING.put("문의", "inquiries");
-    }
-
-    /**
-     * 컬럼명 매핑 초기화
-     */
-    private static void initializeColumnMapping() {
-        // 사용자 테이블 컬럼 매핑
-        Map<String, String> userColumns = new HashMap<>();
-        userColumns.put("사용자ID", "user_id");
-        userColumns.put("이름", "name");
-        userColumns.put("이메일", "email");
-        userColumns.put("전화번호", "phone_number");
-        userColumns.put("주소", "address");
-        userColumns.put("생년월일", "birth_date");
-        userColumns.put("성별", "gender");
-        userColumns.put("직업", "occupation");
-        userColumns.put("등록일시", "created_at");
-        userColumns.put("수정일시", "updated_at");
-        userColumns.put("활성여부", "is_active");
-        COLUMN_NAME_MAPPING.put("사용자", userColumns);
-
-        // 상품 테이블 컬럼 매핑
-        Map<String, String> productColumns = new HashMap<>();
-        productColumns.put("상품ID", "product_id");
-        productColumns.put("상품명", "product_name");
-        productColumns.put("상품설명", "product_description");
-        productColumns.put("카테고리", "category");
-        productColumns.put("가격", "price");
-        productColumns.put("재고수량", "stock_quantity");
-        productColumns.put("제조사", "manufacturer");
-        productColumns.put("원산지", "origin_country");
-        productColumns.put("등록일시", "created_at");
-        productColumns.put("수정일시", "updated_at");
-        productColumns.put("판매상태", "sales_status");
-        COLUMN_NAME_MAPPING.put("상품", productColumns);
-
-        // 주문 테이블 컬럼 매핑
-        Map<String, String> orderColumns = new HashMap<>();
-        orderColumns.put("주문ID", "order_id");
-        orderColumns.put("사용자ID", "user_id");
-        orderColumns.put("주문번호", "order_number");
-        orderColumns.put("주문일시", "order_date");
-        orderColumns.put("총금액", "total_amount");
-        orderColumns.put("배송주소", "delivery_address");
-        orderColumns.put("주문상태", "order_status");
-        orderColumns.put("결제방법", "payment_method");
-        orderColumns.put("배송메모", "delivery_memo");
-        COLUMN_NAME_MAPPING.put("주문", orderColumns);
-
-        // 주문상세 테이블 컬럼 매핑
-        Map<String, String> orderDetailColumns = new HashMap<>();
-        orderDetailColumns.put("주문상세ID", "order_detail_id");
-        orderDetailColumns.put("주문ID", "order_id");
-        orderDetailColumns.put("상품ID", "product_id");
-        orderDetailColumns.put("수량", "quantity");
-        orderDetailColumns.put("단가", "unit_price");
-        orderDetailColumns.put("소계", "subtotal");
-        COLUMN_NAME_MAPPING.put("주문상세", orderDetailColumns);
-
-        // 카테고리 테이블 컬럼 매핑
-        Map<String, String> categoryColumns = new HashMap<>();
-        categoryColumns.put("카테고리ID", "category_id");
-        categoryColumns.put("카테고리명", "category_name");
-        categoryColumns.put("상위카테고리ID", "parent_category_id");
-        categoryColumns.put("카테고리설명", "category_description");
-        categoryColumns.put("정렬순서", "sort_order");
-        categoryColumns.put("사용여부", "is_active");
-        categoryColumns.put("등록일시", "created_at");
-        COLUMN_NAME_MAPPING.put("카테고리", categoryColumns);
-    }
-
-    /**
-     * 값 매핑 초기화 (한글 값을 영어로 변환)
-     */
-    private static void initializeValueMapping() {
-        // 성별 매핑
-        Map<String, String> genderMapping = new HashMap<>();
-        genderMapping.put("남성", "MALE");
-        genderMapping.put("여성", "FEMALE");
-        VALUE_MAPPING.put("gender", genderMapping);
-
-        // 주문상태 매핑
-        Map<String, String> orderStatusMapping = new HashMap<>();
-        orderStatusMapping.put("주문접수", "ORDER_RECEIVED");
-        orderStatusMapping.put("결제완료", "PAYMENT_COMPLETED");
-        orderStatusMapping.put("배송준비", "PREPARING");
-        orderStatusMapping.put("배송중", "SHIPPING");
-        orderStatusMapping.put("배송완료", "DELIVERED");
-        orderStatusMapping.put("주문취소", "CANCELLED");
-        VALUE_MAPPING.put("order_status", orderStatusMapping);
-
-        // 판매상태 매핑
-        Map<String, String> salesStatusMapping = new HashMap<>();
-        salesStatusMapping.put("판매중", "ON_SALE");
-        salesStatusMapping.put("품절", "OUT_OF_STOCK");
-        salesStatusMapping.put("판매중단", "DISCONTINUED");
-        VALUE_MAPPING.put("sales_status", salesStatusMapping);
-
-        // 배송상태 매핑
-        Map<String, String> deliveryStatusMapping = new HashMap<>();
-        deliveryStatusMapping.put("배송준비", "PREPARING");
-        deliveryStatusMapping.put("배송중", "SHIPPING");
-        deliveryStatusMapping.put("배송완료", "DELIVERED");
-        deliveryStatusMapping.put("배송실패", "FAILED");
-        VALUE_MAPPING.put("delivery_status", deliveryStatusMapping);
-
-        // 문의유형 매핑
-        Map<String, String> inquiryTypeMapping = new HashMap<>();
-        inquiryTypeMapping.put("상품문의", "PRODUCT_INQUIRY");
-        inquiryTypeMapping.put("배송문의", "DELIVERY_INQUIRY");
-        inquiryTypeMapping.put("기타문의", "OTHER_INQUIRY");
-        VALUE_MAPPING.put("inquiry_type", inquiryTypeMapping);
-
-        // 처리상태 매핑
-        Map<String, String> statusMapping = new HashMap<>();
-        statusMapping.put("접수", "RECEIVED");
-        statusMapping.put("처리중", "PROCESSING");
-        statusMapping.put("완료", "COMPLETED");
-        statusMapping.put("취소", "CANCELLED");
-        VALUE_MAPPING.put("status", statusMapping);
-
-        // 할인타입 매핑
-        Map<String, String> discountTypeMapping = new HashMap<>();
-        discountTypeMapping.put("정액할인", "FIXED_AMOUNT");
-        discountTypeMapping.put("정률할인", "PERCENTAGE");
-        VALUE_MAPPING.put("discount_type", discountTypeMapping);
+    private final MigrationStatisticsRegistry statisticsRegistry;
+    // 이 Processor 인스턴스의 누적 통계 (Step별 통계는 statisticsRegistry에 집계)
+    private final MigrationStatistics statistics = new MigrationStatistics();
+
+    private final MappingDictionaryRegistry mappingRegistry;
+    private final BatchProperties batchProperties;
+    // 매핑 사전별 소스 테이블 변환 계획 캐시 (Step마다 시작 시점의 사전을 사용하므로 사전별로 보관)
+    private final Map<MappingDictionary, PlanCache> planCaches = new ConcurrentHashMap<>();
+
+    public DataTransformProcessor(MigrationStatisticsRegistry statisticsRegistry,
+                                  MappingDictionaryRegistry mappingRegistry,
+                                  BatchProperties batchProperties) {
+        this.statisticsRegistry = statisticsRegistry;
+        this.mappingRegistry = mappingRegistry;
+        this.batchProperties = batchProperties;
     }
 
     @Override
     public DataRecord process(DataRecord item) throws Exception {
+        MigrationStatistics stepStatistics = statisticsRegistry.current();
         try {
-            processedCount++;
+            statistics.incrementProcessed();
+            stepStatistics.incrementProcessed();
             
-            // 데이터 변환 로직
-            DataRecord transformedRecord = transformData(item);
-            
-            // 데이터 검증
-            if (!validateData(transformedRecord)) {
+            // 데이터 검증 (변환 시 migrated_at이 추가되므로 변환 전 원본 레코드로 검증)
+            if (!validateData(item)) {
                 logger.warn("Data validation failed for record from table: {}, data: {}", 
                     item.getTableName(), item.getData());
-                errorCount++;
+                statistics.incrementProcessErrors();
+                stepStatistics.incrementProcessErrors();
                 return null; // null 반환 시 해당 레코드는 Writer로 전달되지 않음
             }
             
+            // 데이터 변환 로직
+            DataRecord transformedRecord = transformData(item);
+            
             // 진행 상황 로깅
+            long processedCount = stepStatistics.getProcessed();
             if (processedCount % 1000 == 0) {
                 logger.info("Processed {} records, errors: {} for table: {}", 
-                    processedCount, errorCount, item.getTableName());
+                    processedCount, stepStatistics.getProcessErrors(), item.getTableName());
             }
             
             return transformedRecord;
             
         } catch (Exception e) {
-            errorCount++;
+            statistics.incrementProcessErrors();
+            stepStatistics.incrementProcessErrors();
             logger.error("Error processing record from table: {}, error: {}", 
                 item.getTableName(), e.getMessage(), e);
             throw e;
         }
     }
 
+    /**
+     * 청크 전체 변환 (ProcessMode.CHUNK)
+     * migrated_at 시각, 매핑 사전, 변환 계획을 청크당 한 번만 구하고 행을 순서대로 변환하며,
+     * 검증에 실패한 행은 변환하지 않고 결과 청크에서 제외함 (검증은 process와 같이 변환 전 원본 기준)
+     * 원본 레코드는 변경하지 않으므로 쓰기 재시도/스캔 시 같은 청크를 다시 변환해도 결과가 같음
+     *
+     * 처리 건수와 검증 실패 건수는 여기서 집계하지 않고, 쓰기에 성공한 청크에 대해서만
+     * recordChunkProcessed로 집계함 (재시도/스캔으로 다시 변환되는 청크가 중복 집계되지 않도록)
+     * 변환 중 예외는 실패할 때마다 오류 1건으로 기록하므로 재시도되는 행은 여러 번 집계될 수 있음
+     * (최종적으로 건너뛴 행 수는 StepExecution의 skip 건수 기준)
+     */
+    public Chunk<DataRecord> processChunk(Chunk<? extends DataRecord> chunk) throws Exception {
+        MappingDictionary dictionary = mappingRegistry.current();
+        LocalDateTime migratedAt = LocalDateTime.now();
+        Chunk<DataRecord> transformed = new Chunk<>();
+
+        String planTable = null;
+        TransformPlan plan = null;
+        try {
+            for (DataRecord item : chunk) {
+                if (!validateData(item)) {
+                    continue;
+                }
+
+                DataRecord transformedRecord;
+                if (item.isSchemaBacked()) {
+                    if (plan == null || !item.getTableName().equals(planTable) || !plan.matches(item.getSchema())) {
+                        planTable = item.getTableName();
+                        plan = resolvePlan(item, dictionary);
+                    }
+                    transformedRecord = plan.apply(item, migratedAt);
+                } else {
+                    transformedRecord = transformMapData(copyOf(item), dictionary, migratedAt);
+                }
+                transformed.add(transformedRecord);
+            }
+        } catch (Exception e) {
+            statistics.incrementProcessErrors();
+            statisticsRegistry.current().incrementProcessErrors();
+            logger.error("Error processing chunk of {} records, error: {}", chunk.size(), e.getMessage(), e);
+            throw e;
+        }
+        return transformed;
+    }
+
+    /**
+     * 쓰기에 성공한 청크의 변환 결과를 통계에 반영 (ChunkTransformingItemWriter에서 호출)
+     *
+     * @param chunk 변환 전 청크
+     * @param transformed processChunk 결과 (검증 실패 행 제외)
+     */
+    void recordChunkProcessed(Chunk<? extends DataRecord> chunk, Chunk<DataRecord> transformed) {
+        MigrationStatistics stepStatistics = statisticsRegistry.current();
+        int processed = chunk.size();
+        int invalid = processed - transformed.size();
+        statistics.addProcessed(processed);
+        stepStatistics.addProcessed(processed);
+        statistics.addProcessErrors(invalid);
+        stepStatistics.addProcessErrors(invalid);
+
+        // 진행 상황 로깅 (1000건 단위를 넘을 때마다)
+        long processedCount = stepStatistics.getProcessed();
+        if (processed > 0 && processedCount / 1000 != (processedCount - processed) / 1000) {
+            logger.info("Processed {} records, errors: {} for table: {}",
+                processedCount, stepStatistics.getProcessErrors(), chunk.getItems().get(0).getTableName());
+        }
+    }
+
+    /**
+     * Map 기반 레코드 복사 (Map 변환은 레코드를 직접 수정하므로 청크 변환 시 원본 보존용)
+     */
+    private static DataRecord copyOf(DataRecord record) {
+        Map<String, Object> data = record.getData();
+        DataRecord copy = new DataRecord(record.getTableName(), data != null ? new HashMap<>(data) : null);
+        copy.setProcessedAt(record.getProcessedAt());
+        copy.setSourceQuery(record.getSourceQuery());
+        return copy;
+    }
+
     /**
      * 데이터 변환 로직
+     * 스키마 기반 레코드는 테이블별로 컴파일된 TransformPlan으로 변환하고,
+     * Map 기반 레코드는 컬럼마다 매핑을 조회하는 기존 방식으로 변환
+     */
+    private DataRecord transformData(DataRecord record) {
+        MappingDictionary dictionary = mappingRegistry.current();
+        if (record.isSchemaBacked()) {
+            return resolvePlan(record, dictionary).apply(record, LocalDateTime.now());
+        }
+        return transformMapData(record, dictionary, LocalDateTime.now());
+    }
+
+    /**
+     * 레코드의 소스 테이블/스키마에 맞는 변환 계획 조회 (없거나 스키마가 바뀌었으면 새로 컴파일)
+     * 처음 보는 매핑 사전이면 새 캐시를 만들고, 더 이상 어떤 Step도 사용하지 않는 사전의 캐시는 버림
+     */
+    private TransformPlan resolvePlan(DataRecord record, MappingDictionary dictionary) {
+        PlanCache cache = planCaches.get(dictionary);
+        if (cache == null) {
+            planCaches.keySet().removeIf(previous -> !mappingRegistry.isInUse(previous));
+            cache = planCaches.computeIfAbsent(dictionary, PlanCache::new);
+        }
+
+        String tableName = record.getTableName();
+        TransformPlan plan = cache.plans.get(tableName);
+        if (plan != null && plan.matches(record.getSchema())) {
+            return plan;
+        }
+
+        Map<String, String> columnMapping = dictionary.getColumnMapping(tableName);
+        if (columnMapping == null) {
+            logger.warn("No column mapping found for table: {}", tableName);
+        }
+        plan = TransformPlan.compile(record.getSchema(),
+            dictionary.resolveTableName(tableName), columnMapping, dictionary.getValueMappings(),
+            batchProperties.getProcessor().getDictionaryMaxEntries());
+        cache.plans.put(tableName, plan);
+
+        logger.debug("Compiled transform plan: {} -> {}, columns: {}",
+            tableName, plan.getTargetTable(), plan.getTargetSchema().getColumnCount());
+        return plan;
+    }
+
+    /**
+     * Map 기반 레코드 변환 로직
      * MSSQL과 MariaDB 간의 데이터 타입 차이 등을 처리
      * 한글 테이블명/컬럼명/값을 영어로 변환
      */
-    private DataRecord transformData(DataRecord record) {
+    private DataRecord transformMapData(DataRecord record, MappingDictionary dictionary, LocalDateTime migratedAt) {
         String originalTableName = record.getTableName();
         Map<String, Object> originalData = record.getData();
 
         // 1. 테이블명 변환
-        String englishTableName = TABLE_NAME_MAPPING.getOrDefault(originalTableName, originalTableName);
+        String englishTableName = dictionary.resolveTableName(originalTableName);
         record.setTableName(englishTableName);
 
         // 2. 컬럼명 및 값 변환
         Map<String, Object> transformedData = new HashMap<>();
-        Map<String, String> columnMapping = COLUMN_NAME_MAPPING.get(originalTableName);
+        Map<String, String> columnMapping = dictionary.getColumnMapping(originalTableName);
 
         if (columnMapping != null) {
             for (Map.Entry<String, Object> entry : originalData.entrySet()) {
@@ -238,7 +228,7 @@ public class DataTransformProcessor implements ItemProcessor<DataRecord, DataRec
                 String englishColumnName = columnMapping.getOrDefault(koreanColumnName, koreanColumnName);
 
                 // 값 변환 및 처리
-                Object transformedValue = transformValue(englishColumnName, value);
+                Object transformedValue = transformValue(dictionary, englishColumnName, value);
 
                 transformedData.put(englishColumnName, transformedValue);
             }
@@ -248,15 +238,16 @@ public class DataTransformProcessor implements ItemProcessor<DataRecord, DataRec
             for (Map.Entry<String, Object> entry : originalData.entrySet()) {
                 String columnName = entry.getKey();
                 Object value = entry.getValue();
-                Object transformedValue = transformValue(columnName, value);
+                Object transformedValue = transformValue(dictionary, columnName, value);
                 transformedData.put(columnName, transformedValue);
             }
         }
 
-        // 3. 이관 시점 정보 추가
-        transformedData.put("migrated_at", LocalDateTime.now());
+        // 3. 이관 시점 정보 추가 (처리 시각도 같은 시각으로 기록)
+        transformedData.put("migrated_at", migratedAt);
 
         record.setData(transformedData);
+        record.setProcessedAt(migratedAt);
 
         logger.debug("Transformed table: {} -> {}, columns: {}",
             originalTableName, englishTableName, transformedData.keySet());
@@ -267,7 +258,7 @@ public class DataTransformProcessor implements ItemProcessor<DataRecord, DataRec
     /**
      * 개별 값 변환 로직
      */
-    private Object transformValue(String columnName, Object value) {
+    private Object transformValue(MappingDictionary dictionary, String columnName, Object value) {
         if (value == null) {
             return null;
         }
@@ -280,7 +271,7 @@ public class DataTransformProcessor implements ItemProcessor<DataRecord, DataRec
             }
 
             // 2. 한글 값을 영어로 변환
-            Map<String, String> valueMapping = VALUE_MAPPING.get(columnName);
+            Map<String, String> valueMapping = dictionary.getValueMapping(columnName);
             if (valueMapping != null && valueMapping.containsKey(stringValue)) {
                 String mappedValue = valueMapping.get(stringValue);
                 logger.debug("Value mapping: {} -> {} for column: {}", stringValue, mappedValue, columnName);
@@ -314,7 +305,7 @@ public class DataTransformProcessor implements ItemProcessor<DataRecord, DataRec
     }
 
     /**
-     * 데이터 검증 로직
+     * 데이터 검증 로직 (변환 전 원본 레코드 대상)
      */
     private boolean validateData(DataRecord record) {
         Map<String, Object> data = record.getData();
@@ -343,15 +334,33 @@ public class DataTransformProcessor implements ItemProcessor<DataRecord, DataRec
      */
     public String getProcessingStats() {
         return String.format("Processed: %d, Errors: %d, Success Rate: %.2f%%", 
-            processedCount, errorCount, 
-            processedCount > 0 ? ((double)(processedCount - errorCount) / processedCount * 100) : 0.0);
+            statistics.getProcessed(), statistics.getProcessErrors(), statistics.getProcessSuccessRate());
+    }
+
+    /**
+     * 이 Processor의 누적 통계 (Step별 통계는 MigrationStatisticsRegistry 참고)
+     */
+    public MigrationStatistics getStatistics() {
+        return statistics;
     }
 
     /**
      * 통계 초기화
      */
     public void resetStats() {
-        processedCount = 0;
-        errorCount = 0;
+        statistics.reset();
+    }
+
+    /**
+     * 한 매핑 사전으로 컴파일한 테이블별 변환 계획
+     */
+    private static final class PlanCache {
+
+        private final MappingDictionary dictionary;
+        private final Map<String, TransformPlan> plans = new ConcurrentHashMap<>();
+
+        private PlanCache(MappingDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
     }
 }
@@ -0,0 +1,130 @@
+package com.example.batch.processor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한글 -> 영어 테이블명/컬럼명/값 매핑 사전 (불변)
+ * 모든 Map은 Map.copyOf로 만든 불변 Map으로, Entry 객체 없이 배열 하나에 키/값을 담는
+ * 개방 주소 해시 테이블이라 수십 개 이하의 작은 키 집합 조회에 적합함
+ *
+ * 변경 시에는 사전 전체를 새로 만들어 MappingDictionaryRegistry에서 교체하므로
+ * 조회하는 쪽은 잠금 없이 한 사전을 끝까지 일관되게 사용함
+ */
+public final class MappingDictionary {
+
+    private final long version;
+    private final String location;
+    private final Map<String, String> tableNames;
+    private final Map<String, Map<String, String>> columnNames;
+    private final Map<String, Map<String, String>> valueMappings;
+
+    private MappingDictionary(long version, String location, Map<String, String> tableNames,
+                              Map<String, Map<String, String>> columnNames,
+                              Map<String, Map<String, String>> valueMappings) {
+        this.version = version;
+        this.location = location;
+        this.tableNames = tableNames;
+        this.columnNames = columnNames;
+        this.valueMappings = valueMappings;
+    }
+
+    /**
+     * 매핑 사전 생성 (입력 Map은 복사되므로 이후 변경되어도 영향 없음)
+     *
+     * @param version 사전 버전 (다시 읽을 때마다 증가)
+     * @param location 사전을 읽어온 위치
+     * @param tableNames 소스 테이블명 -> 타겟 테이블명
+     * @param columnNames 소스 테이블명 -> (소스 컬럼명 -> 타겟 컬럼명)
+     * @param valueMappings 타겟 컬럼명 -> (소스 값 -> 타겟 값)
+     */
+    public static MappingDictionary of(long version, String location, Map<String, String> tableNames,
+                                       Map<String, Map<String, String>> columnNames,
+                                       Map<String, Map<String, String>> valueMappings) {
+        return new MappingDictionary(version, location, Map.copyOf(tableNames),
+                deepCopy(columnNames), deepCopy(valueMappings));
+    }
+
+    private static Map<String, Map<String, String>> deepCopy(Map<String, Map<String, String>> mappings) {
+        Map<String, Map<String, String>> copy = new LinkedHashMap<>(mappings.size());
+        mappings.forEach((key, mapping) -> copy.put(key, Map.copyOf(mapping)));
+        return Map.copyOf(copy);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * 타겟 테이블명 (매핑이 없으면 소스 테이블명 그대로)
+     */
+    public String resolveTableName(String sourceTable) {
+        return tableNames.getOrDefault(sourceTable, sourceTable);
+    }
+
+    /**
+     * 소스 테이블의 컬럼명 매핑 (매핑이 없는 테이블은 null)
+     */
+    public Map<String, String> getColumnMapping(String sourceTable) {
+        return columnNames.get(sourceTable);
+    }
+
+    /**
+     * 타겟 컬럼명별 값 매핑
+     */
+    public Map<String, Map<String, String>> getValueMappings() {
+        return valueMappings;
+    }
+
+    /**
+     * 타겟 컬럼의 값 매핑 (매핑이 없는 컬럼은 null)
+     */
+    public Map<String, String> getValueMapping(String targetColumn) {
+        return valueMappings.get(targetColumn);
+    }
+
+    /**
+     * 매핑이 정의된 소스(한글) 테이블명 목록
+     */
+    public Set<String> getSourceTables() {
+        return tableNames.keySet();
+    }
+
+    /**
+     * 소스 테이블에서 컬럼 매핑이 정의된 (한글) 컬럼명 목록 (매핑이 없는 테이블은 빈 Set)
+     */
+    public Set<String> getSourceColumns(String sourceTable) {
+        Map<String, String> columnMapping = columnNames.get(sourceTable);
+        return columnMapping != null ? columnMapping.keySet() : Collections.emptySet();
+    }
+
+    /**
+     * REST 응답용 요약 정보
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("version", version);
+        map.put("location", location);
+        map.put("tables", tableNames.size());
+        map.put("columnMappedTables", columnNames.size());
+        map.put("valueMappedColumns", valueMappings.size());
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "MappingDictionary{" +
+                "version=" + version +
+                ", location='" + location + '\'' +
+                ", tables=" + tableNames.size() +
+                ", columnMappedTables=" + columnNames.size() +
+                ", valueMappedColumns=" + valueMappings.size() +
+                '}';
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.batch.processor;
+
+import com.example.batch.config.BatchProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 매핑 사전(MappingDictionary)을 batch.mapping.location 의 YAML/JSON 파일에서 읽어 보관하는 레지스트리
+ *
+ * 다시 읽기(reload)는 새 사전을 만들어 대기 상태로 두기만 하고, 실제 교체는 Step 시작 시(beforeStep) 수행함
+ * Step은 시작 시점의 사전을 Step 실행에 고정하여 끝날 때까지 사용하므로, 분할/파티션 Worker처럼
+ * 다른 Step이 실행 중에 시작되어 사전을 교체해도 이미 실행 중인 Step의 사전은 바뀌지 않음
+ * (Step 스레드 외에 변환을 수행하는 스레드도 StepSynchronizationManager에 Step 실행이 등록되어 있어야 함)
+ * 파일에 오류가 있으면 reload가 예외를 던지고 현재 사전은 그대로 유지됨
+ */
+@Component
+public class MappingDictionaryRegistry implements StepExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappingDictionaryRegistry.class);
+
+    private final BatchProperties batchProperties;
+    private final ResourceLoader resourceLoader;
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<MappingDictionary> pending = new AtomicReference<>();
+    // 실행 중인 Step별로 시작 시점에 고정한 사전
+    private final Map<StepExecution, MappingDictionary> pinned = new ConcurrentHashMap<>();
+    private volatile MappingDictionary current;
+
+    public MappingDictionaryRegistry(BatchProperties batchProperties, ResourceLoader resourceLoader) {
+        this.batchProperties = batchProperties;
+        this.resourceLoader = resourceLoader;
+        this.current = load();
+        logger.info("Loaded mapping dictionary: {}", current);
+    }
+
+    /**
+     * 현재 스레드의 Step에 고정된 매핑 사전 (Step 밖이거나 리스너가 등록되지 않은 Step이면 최신 사전)
+     */
+    public MappingDictionary current() {
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext != null) {
+            MappingDictionary dictionary = pinned.get(stepContext.getStepExecution());
+            if (dictionary != null) {
+                return dictionary;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 최신 사전이거나 실행 중인 Step에 고정된 사전인지 여부 (변환 계획 캐시 정리용)
+     */
+    public boolean isInUse(MappingDictionary dictionary) {
+        return dictionary == current || pinned.containsValue(dictionary);
+    }
+
+    /**
+     * 적용 대기 중인 매핑 사전 (없으면 null)
+     */
+    public MappingDictionary getPending() {
+        return pending.get();
+    }
+
+    /**
+     * 매핑 파일을 다시 읽어 다음 Step 시작 시 적용되도록 대기시킴
+     *
+     * @return 새로 읽은 매핑 사전
+     * @throws IllegalStateException 파일을 읽을 수 없거나 형식이 잘못된 경우
+     */
+    public MappingDictionary reload() {
+        MappingDictionary loaded = load();
+        pending.set(loaded);
+        logger.info("Reloaded mapping dictionary, will be applied from the next step: {}", loaded);
+        return loaded;
+    }
+
+    /**
+     * 대기 중인 매핑 사전이 있으면 현재 사전으로 교체
+     *
+     * @return 교체 여부
+     */
+    public boolean activatePending() {
+        MappingDictionary next = pending.getAndSet(null);
+        if (next == null) {
+            return false;
+        }
+        MappingDictionary previous = current;
+        current = next;
+        logger.info("Activated mapping dictionary version {} (was {})", next.getVersion(), previous.getVersion());
+        return true;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        activatePending();
+        pinned.put(stepExecution, current);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        pinned.remove(stepExecution);
+        return null;
+    }
+
+    /**
+     * REST 응답용 현재/대기 사전 정보
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("current", current.toMap());
+        MappingDictionary next = pending.get();
+        snapshot.put("pending", next != null ? next.toMap() : null);
+        return snapshot;
+    }
+
+    private MappingDictionary load() {
+        String location = batchProperties.getMapping().getLocation();
+        Resource resource = resourceLoader.getResource(location);
+        Map<String, Object> document;
+        try (InputStream input = resource.getInputStream()) {
+            document = location.toLowerCase().endsWith(".json")
+                    ? readJson(input)
+                    : new Yaml().load(input);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Failed to read mapping dictionary: " + location, e);
+        }
+        if (document == null) {
+            throw new IllegalStateException("Mapping dictionary is empty: " + location);
+        }
+
+        return MappingDictionary.of(versions.incrementAndGet(), location,
+                toStringMap(document.get("tables"), "tables"),
+                toNestedMap(document.get("columns"), "columns"),
+                toNestedMap(document.get("values"), "values"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readJson(InputStream input) throws IOException {
+        return new ObjectMapper().readValue(input, Map.class);
+    }
+
+    /**
+     * 섹션 -> (키 -> 매핑) 변환
+     */
+    private static Map<String, Map<String, String>> toNestedMap(Object section, String path) {
+        Map<String, Map<String, String>> nested = new LinkedHashMap<>();
+        asMap(section, path).forEach((key, value) ->
+                nested.put(String.valueOf(key), toStringMap(value, path + "." + key)));
+        return nested;
+    }
+
+    /**
+     * 키 -> 값 문자열 매핑 변환
+     * YAML은 yes/no, 숫자 등을 문자열이 아닌 타입으로 읽으므로 키와 값 모두 문자열로 변환
+     */
+    private static Map<String, String> toStringMap(Object section, String path) {
+        Map<String, String> mapping = new LinkedHashMap<>();
+        asMap(section, path).forEach((key, value) -> {
+            if (value == null || value instanceof Map || value instanceof Iterable) {
+                throw new IllegalStateException("Mapping value must be a string at " + path + "." + key);
+            }
+            mapping.put(String.valueOf(key), String.valueOf(value));
+        });
+        return mapping;
+    }
+
+    private static Map<?, ?> asMap(Object section, String path) {
+        if (section == null) {
+            return Map.of();
+        }
+        if (!(section instanceof Map)) {
+            throw new IllegalStateException("Mapping section must be an object: " + path);
+        }
+        return (Map<?, ?>) section;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.batch.processor;
+
+/**
+ * 변환(Processor) 단계 실행 방식
+ */
+public enum ProcessMode {
+
+    /**
+     * Step의 ItemProcessor로 행마다 DataTransformProcessor.process 호출 (기본값)
+     */
+    ITEM,
+
+    /**
+     * 쓰기 직전에 청크 전체를 DataTransformProcessor.processChunk로 한 번에 변환
+     * 변환 계획 조회와 migrated_at 시각을 청크당 한 번만 계산
+     */
+    CHUNK,
+
+    /**
+     * AsyncItemProcessor로 행 변환을 processTaskExecutor 스레드에 분산하고,
+     * AsyncItemWriter가 청크 순서대로 결과를 모아 Writer에 전달
+     */
+    ASYNC
+}
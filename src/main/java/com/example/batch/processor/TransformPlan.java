@@ -0,0 +1,149 @@
+package com.example.batch.processor;
+
+import com.example.batch.model.DataRecord;
+import com.example.batch.model.RecordSchema;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소스 테이블 스키마 하나에 대해 미리 계산한 변환 계획
+ * 타겟 테이블명, 소스 컬럼별 타겟 컬럼 위치, 컬럼별 값 변환기를 처음 한 번만 계산하고,
+ * 이후 행은 Map 조회 없이 값 배열을 순서대로 변환하여 타겟 스키마 기반 레코드를 만듦
+ * 문자열 컬럼의 변환기는 ValueDictionary로 감싸 반복되는 값의 변환 결과를 재사용함
+ */
+final class TransformPlan {
+
+    static final String MIGRATED_AT = "migrated_at";
+
+    private final RecordSchema sourceSchema;
+    private final String targetTable;
+    private final RecordSchema targetSchema;
+    private final int[] targetIndexes;
+    private final ValueConverter[] converters;
+    private final int migratedAtIndex;
+
+    private TransformPlan(RecordSchema sourceSchema, String targetTable, RecordSchema targetSchema,
+                          int[] targetIndexes, ValueConverter[] converters, int migratedAtIndex) {
+        this.sourceSchema = sourceSchema;
+        this.targetTable = targetTable;
+        this.targetSchema = targetSchema;
+        this.targetIndexes = targetIndexes;
+        this.converters = converters;
+        this.migratedAtIndex = migratedAtIndex;
+    }
+
+    /**
+     * 변환 계획 생성
+     *
+     * @param sourceSchema 소스 레코드 스키마
+     * @param targetTable 타겟 테이블명
+     * @param columnMapping 소스 컬럼명 -> 타겟 컬럼명 (매핑이 없으면 null, 컬럼명 유지)
+     * @param valueMapping 타겟 컬럼명 -> (소스 값 -> 타겟 값)
+     * @param dictionaryMaxEntries 문자열 컬럼별 값 사전 최대 크기 (0이면 값 사전 사용 안 함)
+     */
+    static TransformPlan compile(RecordSchema sourceSchema, String targetTable,
+                                 Map<String, String> columnMapping,
+                                 Map<String, Map<String, String>> valueMapping,
+                                 int dictionaryMaxEntries) {
+        int columnCount = sourceSchema.getColumnCount();
+        List<String> targetColumns = new ArrayList<>(columnCount + 1);
+        int[] targetIndexes = new int[columnCount];
+        ValueConverter[] converters = new ValueConverter[columnCount];
+
+        for (int i = 0; i < columnCount; i++) {
+            String sourceColumn = sourceSchema.getColumnName(i);
+            String targetColumn = columnMapping != null
+                    ? columnMapping.getOrDefault(sourceColumn, sourceColumn)
+                    : sourceColumn;
+
+            // 여러 소스 컬럼이 같은 타겟 컬럼으로 매핑되면 뒤의 컬럼 값이 사용됨
+            int targetIndex = targetColumns.indexOf(targetColumn);
+            if (targetIndex < 0) {
+                targetIndex = targetColumns.size();
+                targetColumns.add(targetColumn);
+            }
+            targetIndexes[i] = targetIndex;
+            converters[i] = selectConverter(sourceSchema.getJdbcType(i), valueMapping.get(targetColumn));
+            if (converters[i] != ValueConverter.PASS_THROUGH && dictionaryMaxEntries > 0) {
+                converters[i] = new ValueDictionary(targetColumn, converters[i], dictionaryMaxEntries);
+            }
+        }
+
+        int migratedAtIndex = targetColumns.indexOf(MIGRATED_AT);
+        if (migratedAtIndex < 0) {
+            migratedAtIndex = targetColumns.size();
+            targetColumns.add(MIGRATED_AT);
+        }
+
+        return new TransformPlan(sourceSchema, targetTable, RecordSchema.of(targetColumns),
+                targetIndexes, converters, migratedAtIndex);
+    }
+
+    /**
+     * 컬럼의 JDBC 타입과 값 매핑 유무로 변환기 선택
+     * 타입을 알 수 없는 컬럼(Types.OTHER)은 문자열일 수 있으므로 공백 제거 변환기 사용
+     */
+    private static ValueConverter selectConverter(int jdbcType, Map<String, String> valueMapping) {
+        if (!isCharacterType(jdbcType) && jdbcType != Types.OTHER) {
+            return ValueConverter.PASS_THROUGH;
+        }
+        if (valueMapping != null && !valueMapping.isEmpty()) {
+            return ValueConverter.mapped(valueMapping);
+        }
+        return ValueConverter.TRIM;
+    }
+
+    private static boolean isCharacterType(int jdbcType) {
+        switch (jdbcType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 이 계획이 해당 스키마의 레코드에 적용 가능한지 확인
+     * 같은 ResultSet의 레코드는 스키마 인스턴스를 공유하므로 대부분 참조 비교로 끝남
+     */
+    boolean matches(RecordSchema schema) {
+        return sourceSchema == schema || sourceSchema.equals(schema);
+    }
+
+    /**
+     * 레코드 하나를 변환하여 타겟 스키마 기반 레코드 생성 (원본 레코드는 변경하지 않음)
+     * 처리 시각은 migrated_at과 같은 시각으로 설정
+     */
+    DataRecord apply(DataRecord source, LocalDateTime migratedAt) {
+        Object[] sourceValues = source.getValues();
+        Object[] targetValues = new Object[targetSchema.getColumnCount()];
+        for (int i = 0; i < sourceValues.length; i++) {
+            targetValues[targetIndexes[i]] = converters[i].convert(sourceValues[i]);
+        }
+        targetValues[migratedAtIndex] = migratedAt;
+
+        DataRecord target = new DataRecord(targetTable, targetSchema, targetValues);
+        target.setProcessedAt(migratedAt);
+        target.setSourceQuery(source.getSourceQuery());
+        return target;
+    }
+
+    String getTargetTable() {
+        return targetTable;
+    }
+
+    RecordSchema getTargetSchema() {
+        return targetSchema;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.batch.processor;
+
+import java.util.Map;
+
+/**
+ * 컬럼 하나의 값 변환기
+ * TransformPlan 컴파일 시 컬럼의 JDBC 타입과 값 매핑 유무에 따라 컬럼별로 하나씩 선택되어,
+ * 행마다 타입 분기나 매핑 조회 없이 바로 호출됨
+ */
+@FunctionalInterface
+interface ValueConverter {
+
+    /**
+     * 숫자, 날짜, bit 등 변환이 필요 없는 컬럼
+     */
+    ValueConverter PASS_THROUGH = value -> value;
+
+    /**
+     * 문자열 컬럼: 앞뒤 공백 제거, 빈 문자열은 NULL
+     */
+    ValueConverter TRIM = ValueConverter::trimToNull;
+
+    Object convert(Object value);
+
+    /**
+     * 값 매핑(한글 코드값 -> 영어)이 정의된 문자열 컬럼: 공백 제거 후 매핑된 값으로 치환
+     */
+    static ValueConverter mapped(Map<String, String> valueMapping) {
+        Map<String, String> mapping = Map.copyOf(valueMapping);
+        return value -> {
+            Object trimmed = trimToNull(value);
+            if (trimmed instanceof String) {
+                String mapped = mapping.get(trimmed);
+                return mapped != null ? mapped : trimmed;
+            }
+            return trimmed;
+        };
+    }
+
+    private static Object trimToNull(Object value) {
+        if (value instanceof String) {
+            String trimmed = ((String) value).trim();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.batch.processor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카디널리티가 낮은 문자열 컬럼(판매상태, 성별, 직업 등)용 값 사전
+ * 원본 문자열 -> 변환 결과를 기억하여 같은 값이 반복되면 조회 한 번으로 변환하고,
+ * 모든 행이 같은 변환 결과 인스턴스를 공유하므로 청크에 보관되는 문자열 수도 줄어듦
+ *
+ * 서로 다른 값이 maxEntries를 넘으면 카디널리티가 높은 컬럼으로 보고 사전을 비운 뒤
+ * 이후로는 변환기를 바로 호출함 (이름, 주소 등이 사전에 쌓이지 않도록)
+ * 변환 계획은 여러 스레드가 공유하므로 ConcurrentHashMap 사용
+ */
+final class ValueDictionary implements ValueConverter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValueDictionary.class);
+
+    // ConcurrentHashMap에 null을 넣을 수 없으므로 NULL로 변환되는 값(빈 문자열 등) 표시용
+    private static final Object NULL = new Object();
+
+    private final String columnName;
+    private final ValueConverter delegate;
+    private final int maxEntries;
+    private final Map<String, Object> entries = new ConcurrentHashMap<>();
+    private volatile boolean highCardinality;
+
+    ValueDictionary(String columnName, ValueConverter delegate, int maxEntries) {
+        this.columnName = columnName;
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Object convert(Object value) {
+        if (highCardinality || !(value instanceof String)) {
+            return delegate.convert(value);
+        }
+
+        Object cached = entries.get(value);
+        if (cached == null) {
+            Object converted = delegate.convert(value);
+            if (entries.size() >= maxEntries) {
+                disable();
+                return converted;
+            }
+            cached = entries.putIfAbsent((String) value, converted != null ? converted : NULL);
+            if (cached == null) {
+                return converted;
+            }
+        }
+        return cached == NULL ? null : cached;
+    }
+
+    private void disable() {
+        highCardinality = true;
+        entries.clear();
+        logger.debug("Column {} has more than {} distinct values, value dictionary disabled", columnName, maxEntries);
+    }
+
+    boolean isHighCardinality() {
+        return highCardinality;
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
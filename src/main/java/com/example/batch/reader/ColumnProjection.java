@@ -0,0 +1,111 @@
+package com.example.batch.reader;
+
+import com.example.batch.config.BatchProperties;
+import com.example.batch.processor.MappingDictionary;
+import com.example.batch.processor.MappingDictionaryRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테이블별로 읽어올 컬럼 목록을 결정하는 컴포넌트 (SELECT * 대신 필요한 컬럼만 조회)
+ * 우선순위:
+ * 1. batch.reader.include-columns 에 지정된 컬럼
+ * 2. batch.reader.project-mapped-columns=true 이면 컬럼 매핑(매핑 사전)에 정의된 컬럼
+ * 3. 그 외에는 전체 컬럼
+ * 위 결과에서 batch.reader.exclude-columns 에 지정된 컬럼은 제외
+ */
+@Component
+public class ColumnProjection {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnProjection.class);
+
+    private final BatchProperties batchProperties;
+    private final MappingDictionaryRegistry mappingRegistry;
+    private final Map<String, List<String>> columnsByTable = new ConcurrentHashMap<>();
+    // 컬럼 목록을 계산할 때 사용한 매핑 사전 (교체되면 캐시 초기화)
+    private volatile MappingDictionary projectedDictionary;
+
+    public ColumnProjection(BatchProperties batchProperties, MappingDictionaryRegistry mappingRegistry) {
+        this.batchProperties = batchProperties;
+        this.mappingRegistry = mappingRegistry;
+    }
+
+    /**
+     * 테이블에서 읽어올 컬럼 목록 반환
+     *
+     * @param dataSource 소스 데이터베이스 (제외 컬럼 처리 시 전체 컬럼 조회용)
+     * @param tableName 테이블명
+     * @param keyColumn 반드시 포함해야 하는 기본키 컬럼 (없으면 null)
+     * @return 컬럼 목록, 전체 컬럼을 읽어야 하면 null
+     */
+    public List<String> resolve(DataSource dataSource, String tableName, String keyColumn) {
+        MappingDictionary dictionary = mappingRegistry.current();
+        if (dictionary != projectedDictionary) {
+            columnsByTable.clear();
+            projectedDictionary = dictionary;
+        }
+
+        List<String> columns = columnsByTable.computeIfAbsent(tableName, table -> resolveColumns(dataSource, table));
+        if (columns.isEmpty()) {
+            return null;
+        }
+
+        if (keyColumn != null && !columns.contains(keyColumn)) {
+            List<String> withKey = new ArrayList<>(columns.size() + 1);
+            withKey.add(keyColumn);
+            withKey.addAll(columns);
+            return withKey;
+        }
+        return columns;
+    }
+
+    /**
+     * 설정 변경 시 캐시된 컬럼 목록 초기화
+     */
+    public void clearCache() {
+        columnsByTable.clear();
+    }
+
+    /**
+     * 설정으로부터 컬럼 목록 계산 (빈 목록은 전체 컬럼을 의미)
+     */
+    private List<String> resolveColumns(DataSource dataSource, String tableName) {
+        BatchProperties.Reader reader = batchProperties.getReader();
+        List<String> excluded = reader.getExcludeColumns().getOrDefault(tableName, Collections.emptyList());
+
+        List<String> columns;
+        if (reader.getIncludeColumns().containsKey(tableName)) {
+            columns = new ArrayList<>(reader.getIncludeColumns().get(tableName));
+        } else if (reader.isProjectMappedColumns()
+                && !mappingRegistry.current().getSourceColumns(tableName).isEmpty()) {
+            columns = new ArrayList<>(mappingRegistry.current().getSourceColumns(tableName));
+        } else if (!excluded.isEmpty()) {
+            columns = findColumns(dataSource, tableName);
+        } else {
+            return Collections.emptyList();
+        }
+
+        columns.removeAll(excluded);
+        logger.info("Column projection for table {}: {}", tableName, columns);
+        return Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * 소스 테이블의 전체 컬럼 조회 (정의 순서)
+     */
+    private List<String> findColumns(DataSource dataSource, String tableName) {
+        return new JdbcTemplate(dataSource).queryForList(
+            "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = ? ORDER BY ORDINAL_POSITION",
+            String.class, tableName);
+    }
+}
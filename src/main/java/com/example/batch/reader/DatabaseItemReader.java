@@ -1,18 +1,33 @@
 package com.example.batch.reader;
 
+import com.example.batch.config.BatchProperties;
 import com.example.batch.model.DataRecord;
+import com.example.batch.model.LobValue;
+import com.example.batch.model.RecordSchema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.SqlServerPagingQueryProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -24,6 +39,25 @@ public class DatabaseItemReader {
 
     private static final Logger logger = LoggerFactory.getLogger(DatabaseItemReader.class);
 
+    private ColumnProjection columnProjection;
+    private BatchProperties batchProperties;
+
+    /**
+     * 컬럼 프로젝션 설정 (없으면 SELECT *)
+     */
+    @Autowired(required = false)
+    public void setColumnProjection(ColumnProjection columnProjection) {
+        this.columnProjection = columnProjection;
+    }
+
+    /**
+     * 배치 설정 (없으면 LOB 스트리밍 등 부가 기능 비활성화)
+     */
+    @Autowired(required = false)
+    public void setBatchProperties(BatchProperties batchProperties) {
+        this.batchProperties = batchProperties;
+    }
+
     /**
      * 지정된 테이블의 데이터를 읽어오는 ItemReader 생성
      * 
@@ -39,23 +73,315 @@ public class DatabaseItemReader {
             String whereClause, 
             int fetchSize) {
         
-        String sql = buildSelectQuery(tableName, whereClause);
+        String sql = buildSelectQuery(selectList(dataSource, tableName, null), tableName, whereClause);
         logger.info("Creating ItemReader for table: {} with SQL: {}", tableName, sql);
         
         return new JdbcCursorItemReaderBuilder<DataRecord>()
                 .name(tableName + "ItemReader")
                 .dataSource(dataSource)
                 .sql(sql)
-                .rowMapper(new DataRecordRowMapper(tableName))
+                .rowMapper(newRowMapper(tableName))
+                .fetchSize(fetchSize)
+                .build();
+    }
+
+    /**
+     * 기본키 키셋 페이징 방식의 ItemReader 생성
+     * 페이지마다 "WHERE pk > :마지막키 ORDER BY pk" 형태의 TOP n 쿼리를 실행하므로
+     * 커넥션과 트랜잭션을 짧게 유지하고, 마지막 키는 Step ExecutionContext에 저장되어
+     * 재시작 시 이미 읽은 행을 다시 읽지 않음
+     *
+     * @param dataSource 소스 데이터베이스
+     * @param tableName 읽어올 테이블명
+     * @param whereClause WHERE 조건 (선택사항)
+     * @param keyColumn 페이징 기준 기본키 컬럼
+     * @param range 읽어올 키 범위 (파티션 처리 시, 전체 테이블이면 null)
+     * @param pageSize 한 페이지(쿼리)에서 가져올 레코드 수
+     * @return JdbcPagingItemReader
+     */
+    public JdbcPagingItemReader<DataRecord> createKeysetReader(
+            DataSource dataSource,
+            String tableName,
+            String whereClause,
+            String keyColumn,
+            KeyRange range,
+            int pageSize) {
+
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameterValues = new HashMap<>();
+
+        if (whereClause != null && !whereClause.trim().isEmpty()) {
+            conditions.add("(" + whereClause + ")");
+        }
+        if (range != null) {
+            conditions.add(keyColumn + " BETWEEN :minKey AND :maxKey");
+            parameterValues.put("minKey", range.getMinKey());
+            parameterValues.put("maxKey", range.getMaxKey());
+        }
+
+        SqlServerPagingQueryProvider queryProvider = new SqlServerPagingQueryProvider();
+        queryProvider.setSelectClause(selectList(dataSource, tableName, keyColumn));
+        queryProvider.setFromClause(tableName);
+        if (!conditions.isEmpty()) {
+            queryProvider.setWhereClause(String.join(" AND ", conditions));
+        }
+        queryProvider.setSortKeys(Map.of(keyColumn, Order.ASCENDING));
+
+        String name = range != null
+                ? tableName + "Partition" + range.getIndex() + "KeysetItemReader"
+                : tableName + "KeysetItemReader";
+        logger.info("Creating keyset ItemReader for table: {} on key: {} with page size: {}{}",
+            tableName, keyColumn, pageSize, range != null ? " " + range : "");
+
+        JdbcPagingItemReader<DataRecord> reader = new JdbcPagingItemReaderBuilder<DataRecord>()
+                .name(name)
+                .dataSource(dataSource)
+                .queryProvider(queryProvider)
+                .parameterValues(parameterValues)
+                .pageSize(pageSize)
+                .fetchSize(pageSize)
+                .rowMapper(newRowMapper(tableName))
+                .build();
+
+        try {
+            reader.afterPropertiesSet();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialize keyset reader for table: " + tableName, e);
+        }
+        return reader;
+    }
+
+    /**
+     * 기본키 범위 기반으로 테이블을 분할하여 파티션별 ItemReader 생성
+     * MIN/MAX 조회 후 N개 구간으로 나누고, 각 Reader는 자기 구간만 WHERE 절로 읽음
+     * 기본키가 정수형 단일 컬럼이 아니면 단일 Reader로 대체
+     *
+     * @param dataSource 소스 데이터베이스
+     * @param tableName 읽어올 테이블명
+     * @param whereClause WHERE 조건 (선택사항)
+     * @param fetchSize 한 번에 가져올 레코드 수
+     * @param partitionCount 분할할 파티션 수
+     * @return 파티션별 JdbcCursorItemReader 목록
+     */
+    public List<JdbcCursorItemReader<DataRecord>> createPartitionedReaders(
+            DataSource dataSource,
+            String tableName,
+            String whereClause,
+            int fetchSize,
+            int partitionCount) {
+
+        String keyColumn = findPrimaryKeyColumn(dataSource, tableName);
+        KeyRange fullRange = keyColumn != null ? findKeyRange(dataSource, tableName, keyColumn, whereClause) : null;
+
+        if (fullRange == null) {
+            logger.info("Table {} is not partitionable (key column: {}), falling back to single reader",
+                tableName, keyColumn);
+            List<JdbcCursorItemReader<DataRecord>> single = new ArrayList<>();
+            single.add(createReader(dataSource, tableName, whereClause, fetchSize));
+            return single;
+        }
+
+        List<JdbcCursorItemReader<DataRecord>> readers = new ArrayList<>();
+        for (KeyRange range : splitKeyRange(fullRange, partitionCount)) {
+            readers.add(createRangeReader(dataSource, tableName, whereClause, keyColumn, range, fetchSize));
+        }
+
+        logger.info("Created {} partitioned readers for table: {} on key: {} ({})",
+            readers.size(), tableName, keyColumn, fullRange);
+        return readers;
+    }
+
+    /**
+     * 지정된 기본키 범위만 읽는 ItemReader 생성
+     *
+     * @param dataSource 소스 데이터베이스
+     * @param tableName 읽어올 테이블명
+     * @param whereClause WHERE 조건 (선택사항)
+     * @param keyColumn 범위 조건에 사용할 기본키 컬럼
+     * @param range 읽어올 키 범위
+     * @param fetchSize 한 번에 가져올 레코드 수
+     * @return JdbcCursorItemReader
+     */
+    public JdbcCursorItemReader<DataRecord> createRangeReader(
+            DataSource dataSource,
+            String tableName,
+            String whereClause,
+            String keyColumn,
+            KeyRange range,
+            int fetchSize) {
+
+        String sql = buildSelectQuery(
+            selectList(dataSource, tableName, keyColumn), tableName, whereClause, keyColumn, true, false);
+        logger.info("Creating range ItemReader for table: {} {} with SQL: {}", tableName, range, sql);
+
+        return new JdbcCursorItemReaderBuilder<DataRecord>()
+                .name(tableName + "Partition" + range.getIndex() + "ItemReader")
+                .dataSource(dataSource)
+                .sql(sql)
+                .queryArguments(range.getMinKey(), range.getMaxKey())
+                .rowMapper(newRowMapper(tableName))
+                .fetchSize(fetchSize)
+                .build();
+    }
+
+    /**
+     * 테이블의 단일 기본키 컬럼 조회 (MSSQL INFORMATION_SCHEMA 기준)
+     *
+     * @return 기본키 컬럼명, 단일 컬럼 기본키가 아니면 null
+     */
+    public String findPrimaryKeyColumn(DataSource dataSource, String tableName) {
+        List<String> keyColumns = new JdbcTemplate(dataSource).queryForList(
+            "SELECT kcu.COLUMN_NAME " +
+            "FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc " +
+            "JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu " +
+            "  ON tc.CONSTRAINT_NAME = kcu.CONSTRAINT_NAME AND tc.TABLE_NAME = kcu.TABLE_NAME " +
+            "WHERE tc.CONSTRAINT_TYPE = 'PRIMARY KEY' AND tc.TABLE_NAME = ? " +
+            "ORDER BY kcu.ORDINAL_POSITION",
+            String.class, tableName);
+
+        if (keyColumns.size() != 1) {
+            logger.debug("Table {} has {} primary key columns, single key required", tableName, keyColumns.size());
+            return null;
+        }
+        return keyColumns.get(0);
+    }
+
+    /**
+     * 기본키 순서로 읽고, 지정된 키 이후부터 시작하는 ItemReader 생성
+     * 재시작 위치는 행 개수가 아닌 마지막 키로 관리하므로 Reader 자체의 상태 저장은 사용하지 않음
+     * (KeyResumingItemReader가 마지막 키를 ExecutionContext에 저장)
+     *
+     * @param dataSource 소스 데이터베이스
+     * @param tableName 읽어올 테이블명
+     * @param whereClause WHERE 조건 (선택사항)
+     * @param keyColumn 정렬 및 재시작 기준 기본키 컬럼
+     * @param range 읽어올 키 범위 (파티션 처리 시, 전체 테이블이면 null)
+     * @param lastKey 이미 처리된 마지막 키 (처음부터 읽으면 null)
+     * @param fetchSize 한 번에 가져올 레코드 수
+     * @return JdbcCursorItemReader
+     */
+    public JdbcCursorItemReader<DataRecord> createKeyOrderedReader(
+            DataSource dataSource,
+            String tableName,
+            String whereClause,
+            String keyColumn,
+            KeyRange range,
+            Object lastKey,
+            int fetchSize) {
+
+        String sql = buildSelectQuery(selectList(dataSource, tableName, keyColumn),
+                tableName, whereClause, keyColumn, range != null, lastKey != null) + " ORDER BY " + keyColumn;
+
+        List<Object> arguments = new ArrayList<>();
+        if (range != null) {
+            arguments.add(range.getMinKey());
+            arguments.add(range.getMaxKey());
+        }
+        if (lastKey != null) {
+            arguments.add(lastKey);
+        }
+
+        logger.info("Creating key ordered ItemReader for table: {} resuming after key: {} with SQL: {}",
+            tableName, lastKey, sql);
+
+        return new JdbcCursorItemReaderBuilder<DataRecord>()
+                .name(range != null ? tableName + "Partition" + range.getIndex() + "ItemReader" : tableName + "ItemReader")
+                .dataSource(dataSource)
+                .sql(sql)
+                .queryArguments(arguments)
+                .rowMapper(newRowMapper(tableName))
                 .fetchSize(fetchSize)
+                .saveState(false)
                 .build();
     }
 
+    /**
+     * 기본키 컬럼의 MIN/MAX 조회
+     *
+     * @return 전체 키 범위, 데이터가 없거나 정수형 키가 아니면 null
+     */
+    public KeyRange findKeyRange(DataSource dataSource, String tableName, String keyColumn, String whereClause) {
+        StringBuilder sql = new StringBuilder("SELECT MIN(")
+                .append(keyColumn).append("), MAX(").append(keyColumn).append(") FROM ").append(tableName);
+        if (whereClause != null && !whereClause.trim().isEmpty()) {
+            sql.append(" WHERE ").append(whereClause);
+        }
+
+        return new JdbcTemplate(dataSource).queryForObject(sql.toString(), (rs, rowNum) -> {
+            Object min = rs.getObject(1);
+            Object max = rs.getObject(2);
+            if (!(min instanceof Number) || !(max instanceof Number)
+                    || min instanceof BigDecimal && ((BigDecimal) min).scale() > 0) {
+                return null;
+            }
+            return new KeyRange(0, ((Number) min).longValue(), ((Number) max).longValue());
+        });
+    }
+
+    /**
+     * 테이블의 대략적인 행 수 조회 (MSSQL sys.partitions 메타데이터 기준)
+     * COUNT(*)와 달리 테이블을 스캔하지 않으므로 진행률/ETA 계산용으로만 사용
+     *
+     * @return 예상 행 수, 조회할 수 없으면 null
+     */
+    public Long estimateRowCount(DataSource dataSource, String tableName) {
+        try {
+            return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT SUM(p.rows) FROM sys.partitions p " +
+                "WHERE p.object_id = OBJECT_ID(?) AND p.index_id IN (0, 1)",
+                Long.class, tableName);
+        } catch (DataAccessException e) {
+            logger.debug("Could not estimate row count for table {}: {}", tableName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 전체 키 범위를 균등한 크기의 구간으로 분할
+     * 구간 수는 키 개수를 넘지 않음
+     */
+    public List<KeyRange> splitKeyRange(KeyRange fullRange, int partitionCount) {
+        int count = (int) Math.max(1, Math.min(partitionCount, fullRange.size()));
+        long step = fullRange.size() / count;
+        long remainder = fullRange.size() % count;
+
+        List<KeyRange> ranges = new ArrayList<>(count);
+        long lower = fullRange.getMinKey();
+        for (int i = 0; i < count; i++) {
+            // 나머지는 앞쪽 구간에 하나씩 배분
+            long upper = lower + step - 1 + (i < remainder ? 1 : 0);
+            ranges.add(new KeyRange(i, lower, upper));
+            lower = upper + 1;
+        }
+        return ranges;
+    }
+
+    /**
+     * 테이블용 RowMapper 생성 (LOB 스트리밍 설정 반영)
+     */
+    private DataRecordRowMapper newRowMapper(String tableName) {
+        int lobThreshold = batchProperties != null && batchProperties.getReader().isLobStreaming()
+                ? batchProperties.getReader().getLobThreshold()
+                : 0;
+        return new DataRecordRowMapper(tableName, lobThreshold);
+    }
+
+    /**
+     * SELECT 절에 사용할 컬럼 목록 (프로젝션이 없으면 *)
+     */
+    private String selectList(DataSource dataSource, String tableName, String keyColumn) {
+        List<String> columns = columnProjection != null
+                ? columnProjection.resolve(dataSource, tableName, keyColumn)
+                : null;
+        return columns != null ? String.join(", ", columns) : "*";
+    }
+
     /**
      * SELECT 쿼리 생성
      */
-    private String buildSelectQuery(String tableName, String whereClause) {
-        StringBuilder sql = new StringBuilder("SELECT * FROM ");
+    private String buildSelectQuery(String selectList, String tableName, String whereClause) {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        sql.append(selectList).append(" FROM ");
         sql.append(tableName);
         
         if (whereClause != null && !whereClause.trim().isEmpty()) {
@@ -65,32 +391,70 @@ public class DatabaseItemReader {
         return sql.toString();
     }
 
+    /**
+     * 기본키 조건이 포함된 SELECT 쿼리 생성
+     * 파라미터 순서: 범위 하한, 범위 상한 (bounded), 마지막 키 (afterLastKey)
+     */
+    private String buildSelectQuery(String selectList, String tableName, String whereClause,
+            String keyColumn, boolean bounded, boolean afterLastKey) {
+
+        List<String> conditions = new ArrayList<>();
+        if (bounded) {
+            conditions.add(keyColumn + " BETWEEN ? AND ?");
+        }
+        if (afterLastKey) {
+            conditions.add(keyColumn + " > ?");
+        }
+        if (whereClause != null && !whereClause.trim().isEmpty()) {
+            conditions.add("(" + whereClause + ")");
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT ");
+        sql.append(selectList).append(" FROM ");
+        sql.append(tableName);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
+        return sql.toString();
+    }
+
     /**
      * ResultSet을 DataRecord로 매핑하는 RowMapper
+     * 컬럼 구조(RecordSchema)는 ResultSet당 한 번만 조회하여 모든 행이 공유하고, 행은 값 배열만 보유
+     * lobThreshold가 0보다 크면 LOB 컬럼은 스트림으로 읽어 임계값을 넘는 값은 LobValue(임시 파일)로 보관
      */
-    private static class DataRecordRowMapper implements RowMapper<DataRecord> {
+    static class DataRecordRowMapper implements RowMapper<DataRecord> {
         
         private final String tableName;
+        private final int lobThreshold;
         private final Logger logger = LoggerFactory.getLogger(DataRecordRowMapper.class);
+
+        private ResultSet currentResultSet;
+        private RecordSchema schema;
+        private boolean streamLobs;
         
         public DataRecordRowMapper(String tableName) {
+            this(tableName, 0);
+        }
+
+        public DataRecordRowMapper(String tableName, int lobThreshold) {
             this.tableName = tableName;
+            this.lobThreshold = lobThreshold;
         }
         
         @Override
         public DataRecord mapRow(ResultSet rs, int rowNum) throws SQLException {
-            ResultSetMetaData metaData = rs.getMetaData();
-            int columnCount = metaData.getColumnCount();
+            RecordSchema recordSchema = resolveSchema(rs);
+            int columnCount = recordSchema.getColumnCount();
             
-            Map<String, Object> data = new HashMap<>();
+            Object[] values = new Object[columnCount];
             
-            for (int i = 1; i <= columnCount; i++) {
-                String columnName = metaData.getColumnName(i);
-                Object value = rs.getObject(i);
-                data.put(columnName, value);
+            for (int i = 0; i < columnCount; i++) {
+                values[i] = streamLobs ? readValue(rs, recordSchema, i) : rs.getObject(i + 1);
             }
             
-            DataRecord record = new DataRecord(tableName, data);
+            DataRecord record = new DataRecord(tableName, recordSchema, values);
             
             if (rowNum % 10000 == 0) {
                 logger.debug("Read {} records from table: {}", rowNum + 1, tableName);
@@ -98,5 +462,38 @@ public class DatabaseItemReader {
             
             return record;
         }
+
+        /**
+         * LOB 컬럼은 스트림으로, 그 외 컬럼은 getObject로 읽기
+         */
+        private Object readValue(ResultSet rs, RecordSchema recordSchema, int index) throws SQLException {
+            try {
+                if (recordSchema.isCharacterLob(index)) {
+                    Reader reader = rs.getCharacterStream(index + 1);
+                    return reader != null ? LobValue.readCharacters(reader, lobThreshold) : null;
+                }
+                if (recordSchema.isBinaryLob(index)) {
+                    InputStream stream = rs.getBinaryStream(index + 1);
+                    return stream != null ? LobValue.readBytes(stream, lobThreshold) : null;
+                }
+            } catch (IOException e) {
+                throw new SQLException("Failed to stream LOB column " + recordSchema.getColumnName(index)
+                        + " of table " + tableName, e);
+            }
+            return rs.getObject(index + 1);
+        }
+
+        /**
+         * 새로운 ResultSet(커서)일 때만 메타데이터를 조회하여 스키마 생성
+         */
+        private RecordSchema resolveSchema(ResultSet rs) throws SQLException {
+            if (schema == null || rs != currentResultSet) {
+                schema = RecordSchema.from(rs.getMetaData());
+                currentResultSet = rs;
+                streamLobs = lobThreshold > 0 && schema.hasLobColumns();
+                logger.debug("Resolved schema for table: {} - {}", tableName, schema);
+            }
+            return schema;
+        }
     }
 }
@@ -0,0 +1,50 @@
+package com.example.batch.reader;
+
+/**
+ * 기본키 범위 (파티션 단위)
+ * 파티션 읽기 시 각 Reader가 담당하는 [minKey, maxKey] 구간을 표현
+ */
+public class KeyRange {
+
+    private final int index;
+    private final long minKey;
+    private final long maxKey;
+
+    public KeyRange(int index, long minKey, long maxKey) {
+        if (minKey > maxKey) {
+            throw new IllegalArgumentException(
+                "minKey must not be greater than maxKey: " + minKey + " > " + maxKey);
+        }
+        this.index = index;
+        this.minKey = minKey;
+        this.maxKey = maxKey;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getMinKey() {
+        return minKey;
+    }
+
+    public long getMaxKey() {
+        return maxKey;
+    }
+
+    /**
+     * 범위에 포함된 키 개수 (양 끝 포함)
+     */
+    public long size() {
+        return maxKey - minKey + 1;
+    }
+
+    @Override
+    public String toString() {
+        return "KeyRange{" +
+                "index=" + index +
+                ", minKey=" + minKey +
+                ", maxKey=" + maxKey +
+                '}';
+    }
+}
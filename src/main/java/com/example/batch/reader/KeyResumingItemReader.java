@@ -0,0 +1,137 @@
+package com.example.batch.reader;
+
+import com.example.batch.model.DataRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.util.ExecutionContextUserSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * 마지막으로 커밋된 기본키 기준으로 재시작하는 커서 ItemReader
+ * 청크 커밋 시점마다 마지막으로 읽은 기본키를 Step ExecutionContext에 저장하고,
+ * 재시작 시 "WHERE pk > 마지막키" 조건으로 커서를 열어 남은 행만 읽음
+ * (기본 커서 Reader는 읽은 행 개수만큼 다시 읽으며 건너뛰므로 재시작 비용이 처리한 양에 비례)
+ * 단일 컬럼 기본키가 없는 테이블은 일반 커서 Reader로 동작
+ */
+public class KeyResumingItemReader implements ItemStreamReader<DataRecord> {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyResumingItemReader.class);
+
+    private static final String LAST_KEY = "lastKey";
+    private static final String READ_COUNT = "read.count";
+
+    private final DatabaseItemReader databaseItemReader;
+    private final DataSource dataSource;
+    private final String tableName;
+    private final String whereClause;
+    private final KeyRange range;
+    private final int fetchSize;
+    // ExecutionContext 키 접두어 (테이블/파티션별 Reader 이름)
+    private final ExecutionContextUserSupport executionContextUserSupport;
+
+    private String keyColumn;
+    private JdbcCursorItemReader<DataRecord> delegate;
+    private boolean keyTracking;
+    private Object lastReadKey;
+    private long restoredCount;
+
+    /**
+     * @param keyColumn 기본키 컬럼 (null이면 open 시점에 소스 DB에서 조회)
+     * @param range 읽어올 키 범위 (파티션 처리 시, 전체 테이블이면 null)
+     */
+    public KeyResumingItemReader(
+            DatabaseItemReader databaseItemReader,
+            DataSource dataSource,
+            String tableName,
+            String whereClause,
+            String keyColumn,
+            KeyRange range,
+            int fetchSize) {
+        this.databaseItemReader = databaseItemReader;
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+        this.whereClause = whereClause;
+        this.keyColumn = keyColumn;
+        this.range = range;
+        this.fetchSize = fetchSize;
+        this.executionContextUserSupport = new ExecutionContextUserSupport(
+            range != null ? tableName + "Partition" + range.getIndex() + "ItemReader" : tableName + "ItemReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (keyColumn == null) {
+            keyColumn = databaseItemReader.findPrimaryKeyColumn(dataSource, tableName);
+        }
+
+        if (keyColumn == null) {
+            logger.info("Table {} has no single column primary key, restart falls back to row count", tableName);
+            keyTracking = false;
+            delegate = databaseItemReader.createReader(dataSource, tableName, whereClause, fetchSize);
+            delegate.open(executionContext);
+            restoredCount = executionContext.getLong(delegate.getExecutionContextKey(READ_COUNT), 0);
+            return;
+        }
+
+        keyTracking = true;
+        lastReadKey = executionContext.get(executionContextUserSupport.getKey(LAST_KEY));
+        if (lastReadKey != null) {
+            logger.info("Resuming table {} after {} = {}", tableName, keyColumn, lastReadKey);
+        }
+
+        delegate = databaseItemReader.createKeyOrderedReader(
+            dataSource, tableName, whereClause, keyColumn, range, lastReadKey, fetchSize);
+        delegate.open(new ExecutionContext());
+    }
+
+    @Override
+    public DataRecord read() throws Exception {
+        DataRecord item = delegate.read();
+        if (item != null && keyTracking) {
+            // Processor가 컬럼명을 바꾸기 전에 키를 기록
+            lastReadKey = item.getValue(keyColumn);
+        }
+        return item;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (!keyTracking) {
+            delegate.update(executionContext);
+        } else if (lastReadKey != null) {
+            executionContext.put(executionContextUserSupport.getKey(LAST_KEY), lastReadKey);
+        }
+    }
+
+    /**
+     * 읽기를 앞서 진행하는 래퍼 Reader(PipelinedItemReader)가 update 대신 호출하여 실제로 처리된 위치를 저장
+     * 미리 읽었지만 아직 커밋되지 않은 행은 재시작 시 다시 읽힘
+     *
+     * @param lastConsumedKey 마지막으로 처리된 행의 기본키
+     * @param consumedCount open 이후 처리된 행 수 (기본키가 없어 행 수로 재시작하는 경우에 사용)
+     */
+    public void updateConsumed(ExecutionContext executionContext, Object lastConsumedKey, long consumedCount) {
+        if (!keyTracking) {
+            executionContext.putLong(delegate.getExecutionContextKey(READ_COUNT), restoredCount + consumedCount);
+        } else if (lastConsumedKey != null) {
+            executionContext.put(executionContextUserSupport.getKey(LAST_KEY), lastConsumedKey);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (delegate != null) {
+            delegate.close();
+            delegate = null;
+        }
+    }
+
+    public String getKeyColumn() {
+        return keyColumn;
+    }
+}
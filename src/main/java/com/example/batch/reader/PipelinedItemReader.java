@@ -0,0 +1,318 @@
+package com.example.batch.reader;
+
+import com.example.batch.model.DataRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.skip.NonSkippableReadException;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 읽기와 변환을 별도 스레드 단계로 분리한 ItemReader
+ * 읽기 스레드 -> (큐) -> 변환 스레드 -> (큐) -> Step 스레드(쓰기) 순서로 연결되어,
+ * Step 스레드가 이전 청크를 타겟 DB에 쓰는 동안 다음 청크를 소스 DB에서 읽고 변환함
+ * 큐가 가득 차면 앞 단계가 대기하므로 메모리 사용량은 큐 크기로 제한됨
+ *
+ * 반환하는 아이템은 이미 변환된 상태이므로 Step에는 Processor를 지정하지 않음
+ * 청크 커밋 시에는 위임 Reader의 위치 대신 실제로 반환된 마지막 행의 위치를 저장하여,
+ * 미리 읽었지만 커밋되지 않은 행은 재시작 시 다시 읽힘
+ * 단계는 pipelineTaskExecutor 스레드에서 실행되며, open 시점의 Step 실행을 등록하여
+ * Step 단위 통계가 해당 Step에 집계되도록 함
+ *
+ * 소스 읽기 오류는 이후 행을 더 읽을 수 없으므로 NonSkippableReadException으로 감싸 Step을 실패시킴
+ * (skip 정책으로 넘기면 남은 행을 읽지 않은 채 Step이 정상 완료됨)
+ */
+public class PipelinedItemReader implements ItemStreamReader<DataRecord> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PipelinedItemReader.class);
+
+    private static final String READ_COUNT = "read.count";
+    private static final Element END = new Element(null, null, null, false);
+
+    private final ItemStreamReader<DataRecord> delegate;
+    private final ItemProcessor<DataRecord, DataRecord> processor;
+    private final int queueCapacity;
+    private final String name;
+    private final AsyncTaskExecutor taskExecutor;
+
+    private BlockingQueue<Element> readQueue;
+    private BlockingQueue<Element> processedQueue;
+    private Stage readStage;
+    private Stage processStage;
+    private volatile boolean stopped;
+    private StepExecution stepExecution;
+
+    private String keyColumn;
+    private Object lastConsumedKey;
+    private long consumedCount;
+    private long restoredCount;
+    private boolean finished;
+    private NonSkippableReadException readFailure;
+
+    /**
+     * @param queueCapacity 단계 사이 큐의 최대 아이템 수
+     * @param name 로그에 표시할 이름 (재시작 위치는 위임 Reader의 키로 저장)
+     * @param taskExecutor 읽기/변환 단계를 실행할 스레드 풀 (Reader당 스레드 2개 사용)
+     */
+    public PipelinedItemReader(ItemStreamReader<DataRecord> delegate,
+                               ItemProcessor<DataRecord, DataRecord> processor,
+                               int queueCapacity,
+                               String name,
+                               AsyncTaskExecutor taskExecutor) {
+        this.delegate = delegate;
+        this.processor = processor;
+        this.queueCapacity = queueCapacity;
+        this.name = name;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.open(executionContext);
+
+        keyColumn = delegate instanceof KeyResumingItemReader
+                ? ((KeyResumingItemReader) delegate).getKeyColumn() : null;
+        restoredCount = delegate instanceof AbstractItemCountingItemStreamItemReader
+                ? executionContext.getLong(readCountKey(), 0) : 0;
+        if (!(delegate instanceof KeyResumingItemReader)
+                && !(delegate instanceof AbstractItemCountingItemStreamItemReader)) {
+            logger.warn("{} cannot record its restart position, a restart will read from the beginning", name);
+        }
+
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        stepExecution = stepContext != null ? stepContext.getStepExecution() : null;
+        lastConsumedKey = null;
+        consumedCount = 0;
+        finished = false;
+        readFailure = null;
+        stopped = false;
+        readQueue = new ArrayBlockingQueue<>(queueCapacity);
+        processedQueue = new ArrayBlockingQueue<>(queueCapacity);
+
+        readStage = new Stage(this::runReadStage);
+        processStage = new Stage(this::runProcessStage);
+        try {
+            processStage.start();
+            readStage.start();
+        } catch (TaskRejectedException e) {
+            stopStages();
+            throw new ItemStreamException(name + " could not start its pipeline stages", e);
+        }
+    }
+
+    @Override
+    public DataRecord read() throws Exception {
+        if (readFailure != null) {
+            throw readFailure;
+        }
+        while (!finished) {
+            Element element = processedQueue.take();
+            if (element == END) {
+                finished = true;
+                break;
+            }
+
+            if (element.source) {
+                consumedCount++;
+                if (element.key != null) {
+                    lastConsumedKey = element.key;
+                }
+            }
+            if (element.error instanceof NonSkippableReadException) {
+                readFailure = (NonSkippableReadException) element.error;
+            }
+            if (element.error != null) {
+                throw element.error;
+            }
+            // Processor가 걸러낸 행은 위치만 반영하고 건너뜀
+            if (element.item != null) {
+                return element.item;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        // 위임 Reader는 큐에 쌓인 만큼 앞서 있으므로 update를 호출하지 않음
+        if (delegate instanceof KeyResumingItemReader) {
+            ((KeyResumingItemReader) delegate).updateConsumed(executionContext, lastConsumedKey, consumedCount);
+        } else if (delegate instanceof AbstractItemCountingItemStreamItemReader) {
+            executionContext.putLong(readCountKey(), restoredCount + consumedCount);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        stopStages();
+        readQueue = null;
+        processedQueue = null;
+        delegate.close();
+    }
+
+    /**
+     * 소스 DB에서 읽어 변환 단계 큐에 적재 (기본키는 Processor가 컬럼명을 바꾸기 전에 기록)
+     * 읽기 오류가 나면 종료 표시 없이 오류만 적재하고 단계를 끝냄
+     */
+    private void runReadStage() {
+        try {
+            DataRecord item;
+            while (!stopped && (item = delegate.read()) != null) {
+                Object key = keyColumn != null ? item.getValue(keyColumn) : null;
+                readQueue.put(new Element(item, key, null, true));
+            }
+            readQueue.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("{} read stage failed: {}", name, e.getMessage());
+            try {
+                readQueue.put(new Element(null, null,
+                        new NonSkippableReadException(name + " read stage failed", e), false));
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 읽은 행을 순서대로 변환하여 쓰기 단계 큐에 적재
+     * 변환 오류는 해당 행의 read() 호출에서 던져져 Step의 skip 정책으로 처리됨
+     */
+    private void runProcessStage() {
+        try {
+            while (!stopped) {
+                Element element = readQueue.take();
+                if (element == END || element.error != null) {
+                    // 종료 표시와 읽기 오류는 그대로 전달하고, 둘 다 읽기 단계의 마지막 요소임
+                    processedQueue.put(element);
+                    return;
+                }
+
+                try {
+                    processedQueue.put(new Element(processor.process(element.item), element.key, null, true));
+                } catch (Exception e) {
+                    processedQueue.put(new Element(null, element.key, e, true));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Step 스레드와 같은 Step 실행을 단계 스레드에 등록한 상태로 실행
+     */
+    private void runInStep(Runnable stage) {
+        if (stepExecution == null) {
+            stage.run();
+            return;
+        }
+        StepSynchronizationManager.register(stepExecution);
+        try {
+            stage.run();
+        } finally {
+            StepSynchronizationManager.release();
+        }
+    }
+
+    /**
+     * 단계를 중지하고 실행 중인 단계가 끝날 때까지 대기 (이후 위임 Reader를 안전하게 닫을 수 있음)
+     */
+    private void stopStages() {
+        stopped = true;
+        if (readStage != null) {
+            readStage.stop();
+        }
+        if (processStage != null) {
+            processStage.stop();
+        }
+        readStage = null;
+        processStage = null;
+    }
+
+    private String readCountKey() {
+        return ((AbstractItemCountingItemStreamItemReader<?>) delegate).getExecutionContextKey(READ_COUNT);
+    }
+
+    /**
+     * 스레드 풀에서 실행되는 단계
+     * 중지 시 아직 시작되지 않은 단계는 실행되지 않도록 하고, 실행 중인 단계는 인터럽트 후 끝날 때까지 대기
+     */
+    private final class Stage implements Runnable {
+
+        private final Runnable body;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private Future<?> future;
+
+        private Stage(Runnable body) {
+            this.body = body;
+        }
+
+        private void start() {
+            future = taskExecutor.submit(this);
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                runInStep(body);
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        private void stop() {
+            if (future == null) {
+                return;
+            }
+            future.cancel(true);
+            if (claimed.compareAndSet(false, true)) {
+                // 시작 전에 중지됨
+                return;
+            }
+            try {
+                finished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 단계 사이를 오가는 아이템 (행, 기본키, 오류)
+     * source가 false인 요소(종료 표시, 읽기 오류)는 처리 위치에 반영하지 않음
+     */
+    private static final class Element {
+
+        private final DataRecord item;
+        private final Object key;
+        private final Exception error;
+        private final boolean source;
+
+        private Element(DataRecord item, Object key, Exception error, boolean source) {
+            this.item = item;
+            this.key = key;
+            this.error = error;
+            this.source = source;
+        }
+    }
+}
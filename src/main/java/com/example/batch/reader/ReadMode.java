@@ -0,0 +1,18 @@
+package com.example.batch.reader;
+
+/**
+ * 테이블 읽기 방식
+ */
+public enum ReadMode {
+
+    /**
+     * Step 전체 동안 하나의 커서(커넥션)를 유지하며 읽기 (기본값)
+     */
+    CURSOR,
+
+    /**
+     * 기본키 기준 키셋 페이징 (WHERE pk > :lastKey ORDER BY pk, TOP n)
+     * 페이지마다 짧은 쿼리로 읽고 마지막 키를 ExecutionContext에 저장
+     */
+    KEYSET
+}
@@ -0,0 +1,97 @@
+package com.example.batch.statistics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기/변환/쓰기 단계별 Micrometer 지표 기록
+ * 모든 지표는 table, step 태그로 구분되어 /actuator/metrics 에서 테이블별 병목 단계를 실시간으로 확인할 수 있음
+ *
+ * - migration.chunk.read / process / write: 청크 하나의 단계별 소요 시간
+ * - migration.chunk.rows: 청크당 쓰기 행 수
+ * - migration.chunk.read.bytes: 청크당 읽은 데이터 크기 (추정값)
+ * - migration.write.fallbacks: 배치 INSERT 실패로 분할 재실행한 횟수
+ */
+@Component
+public class MigrationMetrics {
+
+    public static final String CHUNK_READ = "migration.chunk.read";
+    public static final String CHUNK_PROCESS = "migration.chunk.process";
+    public static final String CHUNK_WRITE = "migration.chunk.write";
+    public static final String CHUNK_ROWS = "migration.chunk.rows";
+    public static final String CHUNK_READ_BYTES = "migration.chunk.read.bytes";
+    public static final String WRITE_FALLBACKS = "migration.write.fallbacks";
+
+    private static final String UNKNOWN_STEP = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public MigrationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordRead(String table, String step, long nanos) {
+        timer(CHUNK_READ, "Time spent reading one chunk from the source", table, step)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordProcess(String table, String step, long nanos) {
+        timer(CHUNK_PROCESS, "Time spent transforming one chunk", table, step)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordWrite(String table, String step, long nanos) {
+        timer(CHUNK_WRITE, "Time spent writing one chunk to the target", table, step)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRows(String table, String step, int rows) {
+        DistributionSummary.builder(CHUNK_ROWS)
+                .description("Rows written per chunk")
+                .baseUnit("rows")
+                .tags("table", table, "step", step)
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    public void recordBytesRead(String table, String step, long bytes) {
+        DistributionSummary.builder(CHUNK_READ_BYTES)
+                .description("Estimated bytes read per chunk")
+                .baseUnit("bytes")
+                .tags("table", table, "step", step)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * 배치 INSERT 실패로 오류 행 분리(분할 재실행)에 들어간 횟수 기록
+     * Writer에서 호출되므로 Step 이름은 현재 스레드의 Step 컨텍스트에서 찾음
+     */
+    public void recordWriteFallback(String table) {
+        Counter.builder(WRITE_FALLBACKS)
+                .description("Batch inserts that fell back to row isolation")
+                .tags("table", table, "step", currentStepName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer timer(String name, String description, String table, String step) {
+        return Timer.builder(name)
+                .description(description)
+                .tags("table", table, "step", step)
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+    }
+
+    private String currentStepName() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context != null ? context.getStepName() : UNKNOWN_STEP;
+    }
+}
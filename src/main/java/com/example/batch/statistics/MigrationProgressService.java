@@ -0,0 +1,113 @@
+package com.example.batch.statistics;
+
+import com.example.batch.config.BatchProperties;
+import com.example.batch.reader.DatabaseItemReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 실행 중인 이관 Job의 진행 상황을 Server-Sent Events로 전송
+ * 구독마다 ProgressTracker를 만들어 설정된 주기로 "progress" 이벤트를 보내고,
+ * Job이 끝나면 마지막 상태를 보낸 뒤 스트림을 닫음
+ */
+@Component
+public class MigrationProgressService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MigrationProgressService.class);
+
+    /**
+     * 너무 짧은 주기로 JobRepository를 반복 조회하지 않도록 하는 최소 전송 주기
+     */
+    private static final long MIN_EMIT_INTERVAL_MS = 200;
+
+    private final JobExplorer jobExplorer;
+    private final MigrationStatisticsRegistry statisticsRegistry;
+    private final DatabaseItemReader databaseItemReader;
+    private final DataSource sourceDataSource;
+    private final BatchProperties batchProperties;
+    private final TaskScheduler progressTaskScheduler;
+
+    public MigrationProgressService(
+            JobExplorer jobExplorer,
+            MigrationStatisticsRegistry statisticsRegistry,
+            DatabaseItemReader databaseItemReader,
+            @Qualifier("sourceDataSource") DataSource sourceDataSource,
+            BatchProperties batchProperties,
+            @Qualifier("progressTaskScheduler") TaskScheduler progressTaskScheduler) {
+        this.jobExplorer = jobExplorer;
+        this.statisticsRegistry = statisticsRegistry;
+        this.databaseItemReader = databaseItemReader;
+        this.sourceDataSource = sourceDataSource;
+        this.batchProperties = batchProperties;
+        this.progressTaskScheduler = progressTaskScheduler;
+    }
+
+    /**
+     * Job 실행의 진행 상황 추적기 생성
+     */
+    public ProgressTracker track(Long jobExecutionId) {
+        return new ProgressTracker(jobExecutionId, jobExplorer, statisticsRegistry,
+                tableName -> databaseItemReader.estimateRowCount(sourceDataSource, tableName));
+    }
+
+    /**
+     * 진행 상황 SSE 스트림 시작
+     *
+     * @param intervalMs 이벤트 전송 주기 (null이면 batch.progress.emit-interval-ms)
+     */
+    public SseEmitter stream(Long jobExecutionId, Long intervalMs) {
+        long interval = Math.max(MIN_EMIT_INTERVAL_MS,
+                intervalMs != null ? intervalMs : batchProperties.getProgress().getEmitIntervalMs());
+
+        // 시간 제한 없이 Job 종료 또는 클라이언트 연결 종료까지 유지
+        SseEmitter emitter = new SseEmitter(0L);
+        ProgressTracker tracker = track(jobExecutionId);
+        AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+
+        Runnable emit = () -> {
+            try {
+                Map<String, Object> progress = tracker.next();
+                emitter.send(SseEmitter.event().name("progress").data(progress));
+                if (tracker.isFinished()) {
+                    emitter.complete();
+                    cancel(task);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 닫힌 스트림
+                logger.debug("Progress stream for job execution {} closed: {}", jobExecutionId, e.getMessage());
+                cancel(task);
+            } catch (Exception e) {
+                logger.warn("Failed to emit progress for job execution {}: {}", jobExecutionId, e.getMessage());
+                emitter.completeWithError(e);
+                cancel(task);
+            }
+        };
+
+        emitter.onCompletion(() -> cancel(task));
+        emitter.onTimeout(() -> cancel(task));
+        emitter.onError(e -> cancel(task));
+        task.set(progressTaskScheduler.scheduleAtFixedRate(emit, Duration.ofMillis(interval)));
+
+        logger.info("Streaming progress for job execution {} every {} ms", jobExecutionId, interval);
+        return emitter;
+    }
+
+    private void cancel(AtomicReference<ScheduledFuture<?>> task) {
+        ScheduledFuture<?> future = task.get();
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.batch.statistics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기/처리/쓰기 건수 통계
+ * 멀티스레드 Step과 파티션 워커가 같은 인스턴스를 동시에 갱신하므로 LongAdder로 집계함
+ * (스레드별로 나뉜 셀에 더하고 조회 시 합산하여 갱신 경합이 없음)
+ */
+public class MigrationStatistics {
+
+    private final Long stepExecutionId;
+    private final String stepName;
+
+    private final LongAdder read = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder processErrors = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writeErrors = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    public MigrationStatistics() {
+        this(null, null);
+    }
+
+    public MigrationStatistics(Long stepExecutionId, String stepName) {
+        this.stepExecutionId = stepExecutionId;
+        this.stepName = stepName;
+    }
+
+    public void incrementRead() {
+        read.increment();
+    }
+
+    public void addRead(long count) {
+        read.add(count);
+    }
+
+    public void incrementProcessed() {
+        processed.increment();
+    }
+
+    public void addProcessed(long count) {
+        processed.add(count);
+    }
+
+    public void incrementProcessErrors() {
+        processErrors.increment();
+    }
+
+    public void addProcessErrors(long count) {
+        processErrors.add(count);
+    }
+
+    public void addWritten(long count) {
+        written.add(count);
+    }
+
+    public void addWriteErrors(long count) {
+        writeErrors.add(count);
+    }
+
+    public void addDeadLettered(long count) {
+        deadLettered.add(count);
+    }
+
+    /**
+     * 다른 통계의 현재 값을 더함 (Step별 통계 합산용)
+     */
+    void addAll(MigrationStatistics other) {
+        read.add(other.getRead());
+        processed.add(other.getProcessed());
+        processErrors.add(other.getProcessErrors());
+        written.add(other.getWritten());
+        writeErrors.add(other.getWriteErrors());
+        deadLettered.add(other.getDeadLettered());
+    }
+
+    public void reset() {
+        read.reset();
+        processed.reset();
+        processErrors.reset();
+        written.reset();
+        writeErrors.reset();
+        deadLettered.reset();
+    }
+
+    public Long getStepExecutionId() {
+        return stepExecutionId;
+    }
+
+    public String getStepName() {
+        return stepName;
+    }
+
+    public long getRead() {
+        return read.sum();
+    }
+
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    public long getProcessErrors() {
+        return processErrors.sum();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getWriteErrors() {
+        return writeErrors.sum();
+    }
+
+    public long getDeadLettered() {
+        return deadLettered.sum();
+    }
+
+    public double getProcessSuccessRate() {
+        long processedCount = getProcessed();
+        return processedCount > 0 ? ((double) (processedCount - getProcessErrors()) / processedCount * 100) : 0.0;
+    }
+
+    public double getWriteSuccessRate() {
+        long writtenCount = getWritten();
+        long total = writtenCount + getWriteErrors();
+        return total > 0 ? ((double) writtenCount / total * 100) : 0.0;
+    }
+
+    /**
+     * REST 응답용 스냅샷
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        if (stepExecutionId != null) {
+            snapshot.put("stepExecutionId", stepExecutionId);
+            snapshot.put("stepName", stepName);
+        }
+        snapshot.put("read", getRead());
+        snapshot.put("processed", getProcessed());
+        snapshot.put("processErrors", getProcessErrors());
+        snapshot.put("written", getWritten());
+        snapshot.put("writeErrors", getWriteErrors());
+        snapshot.put("deadLettered", getDeadLettered());
+        snapshot.put("processSuccessRate", getProcessSuccessRate());
+        snapshot.put("writeSuccessRate", getWriteSuccessRate());
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return "MigrationStatistics{" +
+                "stepExecutionId=" + stepExecutionId +
+                ", stepName='" + stepName + '\'' +
+                ", read=" + getRead() +
+                ", processed=" + getProcessed() +
+                ", processErrors=" + getProcessErrors() +
+                ", written=" + getWritten() +
+                ", writeErrors=" + getWriteErrors() +
+                ", deadLettered=" + getDeadLettered() +
+                '}';
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.batch.statistics;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Step 실행(StepExecution)별 처리/쓰기 통계 저장소
+ * Processor와 Writer는 싱글톤 빈이라 여러 Step(파티션 워커 포함)이 동시에 사용하므로,
+ * 현재 스레드에 등록된 Step 실행을 기준으로 통계를 분리하여 집계함
+ * Step 컨텍스트가 없는 호출(단위 테스트, Step 밖에서 직접 호출)은 별도 항목에 집계
+ */
+@Component
+public class MigrationStatisticsRegistry {
+
+    /**
+     * 조회용으로 보관하는 최대 Step 실행 수 (초과 시 오래된 실행부터 제거)
+     */
+    static final int MAX_RETAINED_STEPS = 1000;
+
+    private final Map<Long, MigrationStatistics> stepStatistics = new ConcurrentHashMap<>();
+    private final MigrationStatistics unscoped = new MigrationStatistics();
+
+    /**
+     * 현재 스레드에서 실행 중인 Step의 통계 반환
+     */
+    public MigrationStatistics current() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null || context.getStepExecution().getId() == null) {
+            return unscoped;
+        }
+        return forStep(context.getStepExecution());
+    }
+
+    /**
+     * Step 실행의 통계 반환 (없으면 생성)
+     */
+    public MigrationStatistics forStep(StepExecution stepExecution) {
+        Long stepExecutionId = stepExecution.getId();
+        MigrationStatistics statistics = stepStatistics.get(stepExecutionId);
+        if (statistics != null) {
+            return statistics;
+        }
+
+        statistics = stepStatistics.computeIfAbsent(stepExecutionId,
+                id -> new MigrationStatistics(id, stepExecution.getStepName()));
+        evictOldest();
+        return statistics;
+    }
+
+    /**
+     * Step 실행 ID로 통계 조회
+     *
+     * @return 해당 Step 실행의 통계, 없으면 null
+     */
+    public MigrationStatistics getStep(Long stepExecutionId) {
+        return stepStatistics.get(stepExecutionId);
+    }
+
+    /**
+     * 보관 중인 Step별 통계 (Step 실행 ID 순)
+     */
+    public List<MigrationStatistics> getSteps() {
+        return stepStatistics.values().stream()
+                .sorted(Comparator.comparing(MigrationStatistics::getStepExecutionId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 모든 Step과 Step 밖 호출의 통계 합계
+     */
+    public MigrationStatistics getTotal() {
+        MigrationStatistics total = new MigrationStatistics();
+        stepStatistics.values().forEach(total::addAll);
+        total.addAll(unscoped);
+        return total;
+    }
+
+    /**
+     * REST 응답용 전체 스냅샷 (합계와 Step별 통계)
+     */
+    public Map<String, Object> snapshot() {
+        List<Map<String, Object>> steps = new ArrayList<>();
+        getSteps().forEach(statistics -> steps.add(statistics.toMap()));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("total", getTotal().toMap());
+        snapshot.put("steps", steps);
+        return snapshot;
+    }
+
+    public void clear() {
+        stepStatistics.clear();
+        unscoped.reset();
+    }
+
+    private void evictOldest() {
+        while (stepStatistics.size() > MAX_RETAINED_STEPS) {
+            stepStatistics.keySet().stream()
+                    .min(Comparator.naturalOrder())
+                    .ifPresent(stepStatistics::remove);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.batch.statistics;
+
+import com.example.batch.job.KeyRangePartitioner;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Job 실행 하나의 테이블별 진행 상황을 주기적으로 계산
+ * 커밋된 건수는 Step 실행(JobRepository)에서, 커밋 전 건수는 MigrationStatisticsRegistry에서 읽어
+ * 더 큰 값을 사용하므로 청크 커밋을 기다리지 않고 실시간 값을 보여줌
+ * 읽기 건수는 Step의 읽기 건수(커밋 전에는 메모리의 읽기 카운터)만 사용하고,
+ * 변환 건수는 별도 항목으로 보여줌 (청크 변환 모드에서는 쓰기 후에 집계되므로 읽기 건수와 섞지 않음)
+ *
+ * 구독(스트림)마다 하나씩 만들어 직전 호출과의 차이로 현재 처리 속도(rows/sec)를 계산하며,
+ * 한 스레드에서만 호출한다고 가정함
+ */
+public class ProgressTracker {
+
+    private final Long jobExecutionId;
+    private final JobExplorer jobExplorer;
+    private final MigrationStatisticsRegistry statisticsRegistry;
+    private final Function<String, Long> totalRowsLookup;
+
+    // 테이블별 예상 전체 행 수 (스트림 동안 한 번만 조회, 조회 실패도 캐시)
+    private final Map<String, Optional<Long>> totalRows = new HashMap<>();
+    private final Map<String, Long> lastWritten = new HashMap<>();
+    private long lastNanos;
+    private boolean finished;
+
+    ProgressTracker(Long jobExecutionId, JobExplorer jobExplorer,
+                    MigrationStatisticsRegistry statisticsRegistry, Function<String, Long> totalRowsLookup) {
+        this.jobExecutionId = jobExecutionId;
+        this.jobExplorer = jobExplorer;
+        this.statisticsRegistry = statisticsRegistry;
+        this.totalRowsLookup = totalRowsLookup;
+    }
+
+    /**
+     * 현재 진행 상황 계산
+     * Job이 끝났거나 찾을 수 없으면 이후 isFinished()가 true를 반환
+     */
+    public Map<String, Object> next() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("jobExecutionId", jobExecutionId);
+
+        JobExecution jobExecution = jobExplorer.getJobExecution(jobExecutionId);
+        if (jobExecution == null) {
+            finished = true;
+            progress.put("status", "NOT_FOUND");
+            return progress;
+        }
+
+        long now = System.nanoTime();
+        double intervalSeconds = lastNanos > 0 ? (now - lastNanos) / 1_000_000_000.0 : 0;
+        lastNanos = now;
+
+        List<Map<String, Object>> tables = new ArrayList<>();
+        for (TableCounts counts : collectTableCounts(jobExecution).values()) {
+            tables.add(tableProgress(counts, intervalSeconds));
+        }
+
+        progress.put("status", jobExecution.getStatus().toString());
+        progress.put("startTime", jobExecution.getStartTime());
+        progress.put("elapsedSeconds", elapsedSeconds(jobExecution.getStartTime()));
+        progress.put("tables", tables);
+
+        finished = !jobExecution.isRunning();
+        return progress;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * 청크 Step 실행을 테이블별로 합산 (파티션 Worker는 같은 테이블로 묶임)
+     * 테이블명이 기록되지 않은 Step(파티션 Manager, 첫 커밋 전 Step)은 제외
+     */
+    private Map<String, TableCounts> collectTableCounts(JobExecution jobExecution) {
+        Map<String, TableCounts> tables = new TreeMap<>();
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            if (!stepExecution.getExecutionContext().containsKey(KeyRangePartitioner.TABLE_NAME_KEY)) {
+                continue;
+            }
+            String tableName = stepExecution.getExecutionContext().getString(KeyRangePartitioner.TABLE_NAME_KEY);
+            MigrationStatistics statistics = statisticsRegistry.getStep(stepExecution.getId());
+
+            TableCounts counts = tables.computeIfAbsent(tableName, TableCounts::new);
+            counts.read += Math.max(stepExecution.getReadCount(), statistics != null ? statistics.getRead() : 0);
+            counts.processed += statistics != null ? statistics.getProcessed() : 0;
+            counts.written += Math.max(stepExecution.getWriteCount(), statistics != null ? statistics.getWritten() : 0);
+            counts.skipped += stepExecution.getSkipCount();
+            counts.running |= stepExecution.getStatus().isRunning();
+            counts.failed |= stepExecution.getStatus() == BatchStatus.FAILED;
+            if (stepExecution.getStartTime() != null
+                    && (counts.startTime == null || stepExecution.getStartTime().isBefore(counts.startTime))) {
+                counts.startTime = stepExecution.getStartTime();
+            }
+        }
+        return tables;
+    }
+
+    private Map<String, Object> tableProgress(TableCounts counts, double intervalSeconds) {
+        // 현재 속도는 직전 이벤트 이후 쓰기 건수, 첫 이벤트는 Step 시작 이후 평균
+        Long previous = lastWritten.put(counts.tableName, counts.written);
+        double rowsPerSecond;
+        if (previous != null && intervalSeconds > 0) {
+            rowsPerSecond = (counts.written - previous) / intervalSeconds;
+        } else {
+            long elapsed = elapsedSeconds(counts.startTime);
+            rowsPerSecond = elapsed > 0 ? (double) counts.written / elapsed : 0;
+        }
+
+        String status = counts.failed ? "FAILED" : counts.running ? "STARTED" : "COMPLETED";
+        Long totalRows = this.totalRows
+                .computeIfAbsent(counts.tableName, table -> Optional.ofNullable(totalRowsLookup.apply(table)))
+                .orElse(null);
+        Long etaSeconds = null;
+        if (!counts.running) {
+            etaSeconds = 0L;
+        } else if (totalRows != null && rowsPerSecond > 0) {
+            etaSeconds = (long) Math.ceil(Math.max(0, totalRows - counts.written) / rowsPerSecond);
+        }
+
+        Map<String, Object> table = new LinkedHashMap<>();
+        table.put("table", counts.tableName);
+        table.put("status", status);
+        table.put("read", counts.read);
+        table.put("processed", counts.processed);
+        table.put("written", counts.written);
+        table.put("skipped", counts.skipped);
+        table.put("lag", Math.max(0, counts.read - counts.written));
+        table.put("rowsPerSecond", Math.round(rowsPerSecond * 10) / 10.0);
+        table.put("totalRows", totalRows);
+        table.put("percent", totalRows != null && totalRows > 0
+                ? Math.min(100.0, Math.round(counts.written * 1000.0 / totalRows) / 10.0) : null);
+        table.put("etaSeconds", etaSeconds);
+        return table;
+    }
+
+    private long elapsedSeconds(LocalDateTime startTime) {
+        return startTime != null ? Duration.between(startTime, LocalDateTime.now()).getSeconds() : 0;
+    }
+
+    /**
+     * 테이블 하나의 Step 실행 합계
+     */
+    private static final class TableCounts {
+
+        private final String tableName;
+        private long read;
+        private long processed;
+        private long written;
+        private long skipped;
+        private boolean running;
+        private boolean failed;
+        private LocalDateTime startTime;
+
+        private TableCounts(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+}
@@ -1,34 +1,73 @@
 package com.example.batch.writer;
 
+import com.example.batch.config.BatchProperties;
 import com.example.batch.model.DataRecord;
+import com.example.batch.model.LobValue;
+import com.example.batch.statistics.MigrationMetrics;
+import com.example.batch.statistics.MigrationStatistics;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * MariaDB 데이터베이스에 데이터를 쓰는 ItemWriter
  * 배치 INSERT를 통한 성능 최적화
+ * batch.writer.mode 설정으로 INSERT 실행 방식 선택 (WriteMode 참고)
  */
 @Component
 public class DatabaseItemWriter implements ItemWriter<DataRecord> {
 
     private static final Logger logger = LoggerFactory.getLogger(DatabaseItemWriter.class);
+
+    /**
+     * 한 문장에 바인딩할 수 있는 최대 파라미터 수 (MariaDB 프로토콜 한도)
+     */
+    private static final int MAX_PLACEHOLDERS = 65535;
+
+    /**
+     * 문자열/바이너리가 아닌 값의 예상 크기 (숫자, 날짜 리터럴 등)
+     */
+    private static final int ESTIMATED_SCALAR_BYTES = 32;
     
     private final JdbcTemplate targetJdbcTemplate;
-    private long writtenCount = 0;
-    private long errorCount = 0;
+    private final BatchProperties batchProperties;
+    // (단일 행 INSERT SQL, 행 수) 형태별 다중 행 INSERT SQL 캐시
+    private final Map<String, String> multiRowSqlCache = new ConcurrentHashMap<>();
+    // 테이블별 쓰기 계획 캐시
+    private final Map<String, WritePlan> writePlans = new ConcurrentHashMap<>();
+    private final MigrationStatisticsRegistry statisticsRegistry;
+    private final MigrationMetrics migrationMetrics;
+    // 배치 문장을 세이브포인트(청크 트랜잭션 내 중첩 트랜잭션) 안에서 실행하기 위한 템플릿
+    private final TransactionTemplate savepointTemplate;
+    // 이 Writer 인스턴스의 누적 통계 (Step별 통계는 statisticsRegistry에 집계)
+    private final MigrationStatistics statistics = new MigrationStatistics();
 
-    public DatabaseItemWriter(JdbcTemplate targetJdbcTemplate) {
+    public DatabaseItemWriter(JdbcTemplate targetJdbcTemplate, BatchProperties batchProperties,
+                              MigrationStatisticsRegistry statisticsRegistry, MigrationMetrics migrationMetrics,
+                              PlatformTransactionManager transactionManager) {
         this.targetJdbcTemplate = targetJdbcTemplate;
+        this.batchProperties = batchProperties;
+        this.statisticsRegistry = statisticsRegistry;
+        this.migrationMetrics = migrationMetrics;
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
     }
 
     @Override
@@ -47,14 +86,15 @@ public class DatabaseItemWriter implements ItemWriter<DataRecord> {
             List<DataRecord> records = entry.getValue();
             
             try {
-                writeRecordsToTable(tableName, records);
-                writtenCount += records.size();
+                int deadLettered = ForeignKeyChecks.run(targetJdbcTemplate, tableName,
+                        () -> writeRecordsToTable(tableName, records));
+                recordWritten(records.size() - deadLettered, deadLettered, deadLettered);
                 
-                logger.info("Successfully wrote {} records to table: {}, Total written: {}", 
-                    records.size(), tableName, writtenCount);
+                logger.info("Successfully wrote {} records to table: {}, Dead-lettered: {}, Total written: {}", 
+                    records.size() - deadLettered, tableName, deadLettered, statistics.getWritten());
                     
             } catch (Exception e) {
-                errorCount += records.size();
+                recordWritten(0, records.size(), 0);
                 logger.error("Failed to write {} records to table: {}, Error: {}", 
                     records.size(), tableName, e.getMessage(), e);
                 throw e;
@@ -64,10 +104,12 @@ public class DatabaseItemWriter implements ItemWriter<DataRecord> {
 
     /**
      * 특정 테이블에 레코드들을 배치 INSERT
+     *
+     * @return 오류 행으로 분리되어 dead-letter 테이블에 기록된 행 수
      */
-    private void writeRecordsToTable(String tableName, List<DataRecord> records) {
+    private int writeRecordsToTable(String tableName, List<DataRecord> records) {
         if (records.isEmpty()) {
-            return;
+            return 0;
         }
 
         // 첫 번째 레코드를 기준으로 컬럼 정보 추출
@@ -76,94 +118,340 @@ public class DatabaseItemWriter implements ItemWriter<DataRecord> {
         
         if (firstData == null || firstData.isEmpty()) {
             logger.warn("No data to write for table: {}", tableName);
-            return;
+            return 0;
         }
 
-        List<String> columns = new ArrayList<>(firstData.keySet());
-        
-        // INSERT 쿼리 생성
-        String insertSql = buildInsertQuery(tableName, columns);
-        logger.debug("Insert SQL for table {}: {}", tableName, insertSql);
+        // 컬럼 순서와 INSERT 쿼리는 컬럼 구성이 바뀔 때만 새로 생성
+        WritePlan plan = resolveWritePlan(tableName, records);
 
-        // 배치 파라미터 준비
-        List<Object[]> batchArgs = new ArrayList<>();
-        
-        for (DataRecord record : records) {
-            Object[] args = new Object[columns.size()];
-            Map<String, Object> data = record.getData();
-            
-            for (int i = 0; i < columns.size(); i++) {
-                args[i] = data.get(columns.get(i));
-            }
-            batchArgs.add(args);
+        List<LobValue> lobValues = collectLobValues(records);
+        int deadLettered;
+        try {
+            deadLettered = switch (batchProperties.getWriter().getMode()) {
+                case MULTI_ROW -> writeMultiRow(tableName, plan, records);
+                default -> writeBatch(tableName, plan, records);
+            };
+        } finally {
+            lobValues.forEach(LobValue::closeStreams);
         }
 
+        // 기록이 끝난 LOB 임시 파일 정리 (실패 시에는 재시도를 위해 유지)
+        lobValues.forEach(LobValue::release);
+        return deadLettered;
+    }
+
+    /**
+     * 테이블의 캐시된 쓰기 계획 조회 (컬럼 구성이나 INSERT 정책이 바뀌었으면 새로 생성)
+     */
+    private WritePlan resolveWritePlan(String tableName, List<DataRecord> records) {
+        InsertPolicy policy = batchProperties.getWriter().resolveInsertPolicy(tableName);
+        WritePlan plan = writePlans.get(tableName);
+        if (plan == null || !plan.matches(records.get(0), policy)) {
+            plan = WritePlan.create(records, policy, columns -> buildInsertQuery(tableName, columns));
+            writePlans.put(tableName, plan);
+            logger.debug("Insert SQL for table {}: {}", tableName, plan.getInsertSql());
+        }
+        return plan;
+    }
+
+    /**
+     * 행별 파라미터 배열로 배치 INSERT
+     */
+    private int writeBatch(String tableName, WritePlan plan, List<DataRecord> records) {
+        String insertSql = plan.getInsertSql();
+        // 배치 파라미터 준비
+        List<Object[]> batchArgs = plan.buildBatchArgs(records);
+
         try {
             // 배치 INSERT 실행
-            int[] updateCounts = targetJdbcTemplate.batchUpdate(insertSql, batchArgs);
-            
-            // 결과 검증
-            int successCount = 0;
-            for (int count : updateCounts) {
-                if (count > 0) {
-                    successCount++;
-                }
-            }
-            
-            if (successCount != records.size()) {
-                logger.warn("Expected {} inserts but {} succeeded for table: {}", 
-                    records.size(), successCount, tableName);
-            }
+            int[] updateCounts = batchUpdateInSavepoint(insertSql, batchArgs);
+            verifyUpdateCounts(tableName, updateCounts, records.size());
+            return 0;
             
         } catch (DataAccessException e) {
             logger.error("Database error writing to table: {}, SQL: {}, Error: {}", 
                 tableName, insertSql, e.getMessage());
             
-            // 개별 INSERT 시도 (배치 실패 시 복구 로직)
-            attemptIndividualInserts(tableName, insertSql, batchArgs);
+            // 배치를 절반씩 나누어 재실행하며 오류 행 분리 (배치 실패 시 복구 로직)
+            return recoverByBisection(tableName, insertSql, plan.getColumns(), batchArgs);
+        }
+    }
+
+    /**
+     * 여러 행을 하나의 INSERT 문장으로 묶어 실행
+     * 문장당 행 수는 청크 내 가장 큰 행 기준으로 문장 크기/플레이스홀더 한도를 넘지 않게 결정하며,
+     * 같은 행 수의 문장은 같은 SQL을 재사용하므로 드라이버의 prepared statement 캐시에 적중
+     */
+    private int writeMultiRow(String tableName, WritePlan plan, List<DataRecord> records) {
+        String insertSql = plan.getInsertSql();
+        List<String> columns = plan.getColumns();
+        List<Object[]> batchArgs = plan.buildBatchArgs(records);
+        int deadLettered = 0;
+        int rowsPerStatement = calculateRowsPerStatement(insertSql, columns.size(), batchArgs);
+
+        for (int from = 0; from < batchArgs.size(); from += rowsPerStatement) {
+            List<Object[]> rows = batchArgs.subList(from, Math.min(from + rowsPerStatement, batchArgs.size()));
+            String multiRowSql = multiRowSqlCache.computeIfAbsent(insertSql + "#" + rows.size(),
+                    key -> buildInsertQuery(tableName, columns, rows.size()));
+
+            try {
+                int inserted = targetJdbcTemplate.update(multiRowSql, flattenRows(rows, columns.size()));
+                if (isPlainInsert(tableName) && inserted != rows.size()) {
+                    logger.warn("Expected {} inserts but {} succeeded for table: {}",
+                        rows.size(), inserted, tableName);
+                }
+
+            } catch (DataAccessException e) {
+                logger.error("Database error writing {} rows to table: {} with multi-row insert, Error: {}",
+                    rows.size(), tableName, e.getMessage());
+
+                // 실패한 문장의 행만 분할 재실행으로 복구
+                deadLettered += recoverByBisection(tableName, insertSql, columns, rows);
+            }
+        }
+
+        logger.debug("Wrote {} rows to table: {} in statements of up to {} rows",
+            batchArgs.size(), tableName, rowsPerStatement);
+        return deadLettered;
+    }
+
+    /**
+     * 문장 크기 및 플레이스홀더 한도 내에서 문장당 행 수 계산
+     */
+    private int calculateRowsPerStatement(String insertSql, int columnCount, List<Object[]> batchArgs) {
+        long maxRowBytes = 1;
+        for (Object[] args : batchArgs) {
+            long rowBytes = columnCount * 3L; // "?, " 구분자
+            for (Object value : args) {
+                rowBytes += estimateSize(value);
+            }
+            maxRowBytes = Math.max(maxRowBytes, rowBytes);
+        }
+
+        BatchProperties.Writer writer = batchProperties.getWriter();
+        long byPacket = (writer.getMaxStatementBytes() - insertSql.length()) / maxRowBytes;
+        long rows = Math.min(byPacket, Math.min(writer.getMaxRowsPerStatement(), MAX_PLACEHOLDERS / columnCount));
+        return (int) Math.max(1, rows);
+    }
+
+    /**
+     * 값의 전송 크기 추정 (문자열은 UTF-8 최대 3바이트/문자 기준)
+     */
+    private long estimateSize(Object value) {
+        if (value == null || value instanceof SqlParameterValue) {
+            return 4;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() * 3L + 2;
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length * 2L + 3;
+        }
+        if (value instanceof LobValue) {
+            LobValue lob = (LobValue) value;
+            return lob.isCharacter() ? lob.length() * 3 : lob.length() * 2;
+        }
+        return ESTIMATED_SCALAR_BYTES;
+    }
+
+    /**
+     * 행별 파라미터 배열을 하나의 파라미터 배열로 펼침
+     */
+    private Object[] flattenRows(List<Object[]> rows, int columnCount) {
+        Object[] args = new Object[rows.size() * columnCount];
+        for (int i = 0; i < rows.size(); i++) {
+            System.arraycopy(rows.get(i), 0, args, i * columnCount, columnCount);
+        }
+        return args;
+    }
+
+    /**
+     * 레코드에 포함된 LOB 값 수집 (스트림 정리 및 임시 파일 삭제용)
+     */
+    private List<LobValue> collectLobValues(List<DataRecord> records) {
+        List<LobValue> lobValues = new ArrayList<>();
+        for (DataRecord record : records) {
+            Map<String, Object> data = record.getData();
+            if (data == null) {
+                continue;
+            }
+            for (Object value : data.values()) {
+                if (value instanceof LobValue) {
+                    lobValues.add((LobValue) value);
+                }
+            }
         }
+        return lobValues;
+    }
+
+    /**
+     * 배치 실행 결과 검증
+     */
+    private void verifyUpdateCounts(String tableName, int[] updateCounts, int expected) {
+        if (!isPlainInsert(tableName)) {
+            return;
+        }
+
+        int successCount = 0;
+        for (int count : updateCounts) {
+            if (count > 0) {
+                successCount++;
+            }
+        }
+        
+        if (successCount != expected) {
+            logger.warn("Expected {} inserts but {} succeeded for table: {}", 
+                expected, successCount, tableName);
+        }
+    }
+
+    /**
+     * IGNORE/REPLACE/UPSERT는 건너뛴 행을 0, 갱신된 행을 2로 보고하므로 영향 행 수 검증 대상이 아님
+     */
+    private boolean isPlainInsert(String tableName) {
+        return batchProperties.getWriter().resolveInsertPolicy(tableName) == InsertPolicy.INSERT;
     }
 
     /**
      * INSERT 쿼리 생성
      */
     private String buildInsertQuery(String tableName, List<String> columns) {
+        return buildInsertQuery(tableName, columns, 1);
+    }
+
+    /**
+     * rowCount개의 VALUES 그룹을 가진 INSERT 쿼리 생성
+     * 테이블의 InsertPolicy에 따라 INSERT IGNORE, REPLACE, ON DUPLICATE KEY UPDATE 적용
+     */
+    private String buildInsertQuery(String tableName, List<String> columns, int rowCount) {
+        InsertPolicy policy = batchProperties.getWriter().resolveInsertPolicy(tableName);
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
         StringBuilder sql = new StringBuilder();
-        sql.append("INSERT INTO ").append(tableName).append(" (");
+        sql.append(switch (policy) {
+            case IGNORE -> "INSERT IGNORE INTO ";
+            case REPLACE -> "REPLACE INTO ";
+            default -> "INSERT INTO ";
+        });
+        sql.append(tableName).append(" (");
         sql.append(String.join(", ", columns));
-        sql.append(") VALUES (");
-        sql.append(columns.stream().map(c -> "?").collect(Collectors.joining(", ")));
-        sql.append(")");
+        sql.append(") VALUES ").append(rowPlaceholders);
+        for (int i = 1; i < rowCount; i++) {
+            sql.append(", ").append(rowPlaceholders);
+        }
+
+        if (policy == InsertPolicy.UPSERT) {
+            sql.append(" ON DUPLICATE KEY UPDATE ");
+            sql.append(columns.stream().map(c -> c + " = VALUES(" + c + ")").collect(Collectors.joining(", ")));
+        }
         
         return sql.toString();
     }
 
     /**
-     * 배치 INSERT 실패 시 개별 INSERT 시도
+     * 배치 INSERT 실패 시 배치를 절반씩 나누어 다시 배치로 실행하며 오류 행 분리
+     * 오류 행이 k개이면 O(k log n)개의 문장으로 분리되며, 분리된 행은 dead-letter 테이블에 기록
+     * 배치는 모두 세이브포인트 안에서 실행되어 실패 시 앞선 행까지 롤백되므로 재실행해도 중복 INSERT가 생기지 않음
+     * (다중 행 INSERT는 문장 단위로 원자적이므로 실패한 문장의 행은 반영되지 않음)
+     *
+     * @return dead-letter 테이블에 기록된 행 수
      */
-    private void attemptIndividualInserts(String tableName, String insertSql, List<Object[]> batchArgs) {
-        logger.info("Attempting individual inserts for table: {} ({} records)", tableName, batchArgs.size());
-        
-        int successCount = 0;
-        int failCount = 0;
-        
-        for (Object[] args : batchArgs) {
+    private int recoverByBisection(String tableName, String insertSql, List<String> columns, List<Object[]> batchArgs) {
+        logger.info("Isolating failed rows by bisection for table: {} ({} records)", tableName, batchArgs.size());
+        migrationMetrics.recordWriteFallback(tableName);
+
+        List<Object[]> failedRows = new ArrayList<>();
+        List<String> failureMessages = new ArrayList<>();
+        bisect(insertSql, batchArgs, failedRows, failureMessages);
+
+        if (!failedRows.isEmpty()) {
+            writeDeadLetters(tableName, columns, failedRows, failureMessages);
+        }
+
+        logger.info("Bisection results for table: {} - Success: {}, Dead-lettered: {}",
+            tableName, batchArgs.size() - failedRows.size(), failedRows.size());
+        return failedRows.size();
+    }
+
+    private void bisect(String insertSql, List<Object[]> rows, List<Object[]> failedRows, List<String> failureMessages) {
+        if (rows.size() == 1) {
             try {
-                int result = targetJdbcTemplate.update(insertSql, args);
-                if (result > 0) {
-                    successCount++;
-                } else {
-                    failCount++;
-                }
+                targetJdbcTemplate.update(insertSql, rows.get(0));
             } catch (DataAccessException e) {
-                failCount++;
-                logger.warn("Failed to insert individual record to table: {}, args: {}, error: {}", 
-                    tableName, java.util.Arrays.toString(args), e.getMessage());
+                failedRows.add(rows.get(0));
+                failureMessages.add(e.getMostSpecificCause().getMessage());
             }
+            return;
         }
-        
-        logger.info("Individual insert results for table: {} - Success: {}, Failed: {}", 
-            tableName, successCount, failCount);
+
+        int middle = rows.size() / 2;
+        for (List<Object[]> half : List.of(rows.subList(0, middle), rows.subList(middle, rows.size()))) {
+            if (half.size() == 1) {
+                bisect(insertSql, half, failedRows, failureMessages);
+                continue;
+            }
+            try {
+                batchUpdateInSavepoint(insertSql, half);
+            } catch (DataAccessException e) {
+                bisect(insertSql, half, failedRows, failureMessages);
+            }
+        }
+    }
+
+    /**
+     * 세이브포인트 안에서 배치 INSERT 실행
+     * 드라이버는 배치 중간에 오류가 나도 앞선 행을 청크 트랜잭션에 이미 반영하므로,
+     * 실패 시 세이브포인트로 롤백하여 배치 전체가 반영되지 않은 상태로 만든 뒤 예외를 던짐
+     * (청크 트랜잭션 밖에서 호출되면 별도 트랜잭션으로 실행)
+     */
+    private int[] batchUpdateInSavepoint(String sql, List<Object[]> batchArgs) {
+        return savepointTemplate.execute(status -> targetJdbcTemplate.batchUpdate(sql, batchArgs));
+    }
+
+    /**
+     * 분리된 오류 행을 dead-letter 테이블에 기록
+     * 기록에 실패하면 예외를 그대로 던져 Step의 skip/retry 정책으로 처리
+     */
+    private void writeDeadLetters(String tableName, List<String> columns,
+                                  List<Object[]> failedRows, List<String> failureMessages) {
+        String deadLetterSql = "INSERT INTO " + batchProperties.getWriter().getDeadLetterTable() +
+                " (table_name, row_data, error_message) VALUES (?, ?, ?)";
+
+        List<Object[]> deadLetterArgs = new ArrayList<>(failedRows.size());
+        for (int i = 0; i < failedRows.size(); i++) {
+            Object[] row = failedRows.get(i);
+            Map<String, Object> rowData = new LinkedHashMap<>();
+            for (int c = 0; c < columns.size(); c++) {
+                Object value = row[c];
+                rowData.put(columns.get(c), value instanceof SqlParameterValue ? ((SqlParameterValue) value).getValue() : value);
+            }
+            deadLetterArgs.add(new Object[]{tableName, rowData.toString(), failureMessages.get(i)});
+            logger.warn("Dead-lettered record for table: {}, row: {}, error: {}",
+                tableName, rowData, failureMessages.get(i));
+        }
+
+        targetJdbcTemplate.batchUpdate(deadLetterSql, deadLetterArgs);
+    }
+
+    /**
+     * 이 Writer와 현재 Step의 통계에 쓰기 결과 반영
+     * 예외로 실패한 청크는 errors에만, 오류 행으로 분리된 행은 errors와 deadLettered에 함께 반영
+     */
+    private void recordWritten(int written, int failed, int deadLettered) {
+        MigrationStatistics stepStatistics = statisticsRegistry.current();
+        statistics.addWritten(written);
+        statistics.addWriteErrors(failed);
+        statistics.addDeadLettered(deadLettered);
+        stepStatistics.addWritten(written);
+        stepStatistics.addWriteErrors(failed);
+        stepStatistics.addDeadLettered(deadLettered);
+    }
+
+    /**
+     * 이 Writer의 누적 통계 (Step별 통계는 MigrationStatisticsRegistry 참고)
+     */
+    public MigrationStatistics getStatistics() {
+        return statistics;
     }
 
     /**
@@ -171,15 +459,13 @@ public class DatabaseItemWriter implements ItemWriter<DataRecord> {
      */
     public String getWritingStats() {
         return String.format("Written: %d, Errors: %d, Success Rate: %.2f%%", 
-            writtenCount, errorCount, 
-            (writtenCount + errorCount) > 0 ? ((double)writtenCount / (writtenCount + errorCount) * 100) : 0.0);
+            statistics.getWritten(), statistics.getWriteErrors(), statistics.getWriteSuccessRate());
     }
 
     /**
      * 통계 초기화
      */
     public void resetStats() {
-        writtenCount = 0;
-        errorCount = 0;
+        statistics.reset();
     }
 }
@@ -0,0 +1,71 @@
+package com.example.batch.writer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 타겟 테이블 적재 중 MariaDB 외래키 검사(foreign_key_checks) 제어
+ * Job ExecutionContext의 DISABLED_TABLES_KEY에 등록된 타겟 테이블은 청크 트랜잭션의 커넥션에서
+ * 외래키 검사를 끈 채로 적재하고 적재 후 다시 켬 (순환 참조 테이블 적재용)
+ * 세션 변수이므로 청크 트랜잭션이 없으면 커넥션 풀에 꺼진 상태가 남지 않도록 검사를 끄지 않음
+ */
+public final class ForeignKeyChecks {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForeignKeyChecks.class);
+
+    /**
+     * 외래키 검사를 끄고 적재할 타겟 테이블 목록의 Job ExecutionContext 키
+     */
+    public static final String DISABLED_TABLES_KEY = "migration.foreignKeyChecks.disabledTables";
+
+    private ForeignKeyChecks() {
+    }
+
+    /**
+     * Job ExecutionContext에 외래키 검사를 끄고 적재할 타겟 테이블 등록
+     */
+    public static void disableFor(ExecutionContext jobExecutionContext, Collection<String> targetTables) {
+        jobExecutionContext.put(DISABLED_TABLES_KEY, List.copyOf(targetTables));
+    }
+
+    /**
+     * 현재 Job에서 해당 타겟 테이블의 외래키 검사를 꺼야 하는지 여부
+     */
+    static boolean isDisabled(String tableName) {
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext == null) {
+            return false;
+        }
+        Object tables = stepContext.getStepExecution().getJobExecution().getExecutionContext().get(DISABLED_TABLES_KEY);
+        return tables instanceof Collection && ((Collection<?>) tables).contains(tableName);
+    }
+
+    /**
+     * 필요하면 외래키 검사를 끈 상태로 작업 실행
+     */
+    static <T> T run(JdbcTemplate jdbcTemplate, String tableName, Callable<T> work) throws Exception {
+        if (!isDisabled(tableName)) {
+            return work.call();
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            logger.warn("No chunk transaction, foreign key checks stay enabled for table: {}", tableName);
+            return work.call();
+        }
+
+        jdbcTemplate.execute("SET foreign_key_checks = 0");
+        try {
+            return work.call();
+        } finally {
+            jdbcTemplate.execute("SET foreign_key_checks = 1");
+        }
+    }
+}
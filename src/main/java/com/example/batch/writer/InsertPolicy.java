@@ -0,0 +1,27 @@
+package com.example.batch.writer;
+
+/**
+ * 타겟 테이블에 이미 같은 키의 행이 있을 때의 INSERT 처리 방식
+ */
+public enum InsertPolicy {
+
+    /**
+     * 일반 INSERT (중복 키는 오류, 기본값)
+     */
+    INSERT,
+
+    /**
+     * INSERT IGNORE: 중복 키 행은 건너뜀
+     */
+    IGNORE,
+
+    /**
+     * REPLACE: 기존 행을 삭제 후 다시 INSERT (ON DELETE CASCADE 외래키에 주의)
+     */
+    REPLACE,
+
+    /**
+     * INSERT ... ON DUPLICATE KEY UPDATE: 기존 행의 컬럼을 새 값으로 갱신
+     */
+    UPSERT
+}
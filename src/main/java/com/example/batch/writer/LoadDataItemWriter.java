@@ -0,0 +1,308 @@
+package com.example.batch.writer;
+
+import com.example.batch.config.BatchProperties;
+import com.example.batch.model.DataRecord;
+import com.example.batch.model.LobValue;
+import com.example.batch.statistics.MigrationStatistics;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * MariaDB LOAD DATA LOCAL INFILE로 청크를 적재하는 ItemWriter
+ * 청크를 메모리의 TSV 버퍼로 직렬화하여 Connector/J의 로컬 파일 스트림으로 전달 (디스크 미사용)
+ * batch.writer.mode=LOAD_DATA일 때 사용되며, 타겟 서버의 local_infile 설정이 켜져 있어야 함
+ * 중복 키 처리는 INSERT, IGNORE, REPLACE만 지원 (LOAD DATA에는 ON DUPLICATE KEY UPDATE가 없음)
+ *
+ * LOCAL 적재는 행 오류(중복 키, 형식 오류 등)를 경고로 바꾸고 해당 행을 건너뛰므로,
+ * INSERT 정책에서 적재 행 수가 청크 행 수와 다르면 예외를 던져 청크를 롤백하고 Step의 skip 정책으로 처리함
+ */
+@Component
+public class LoadDataItemWriter implements ItemWriter<DataRecord> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadDataItemWriter.class);
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    private static final byte[] NULL_VALUE = {'\\', 'N'};
+
+    private final JdbcTemplate targetJdbcTemplate;
+    private final BatchProperties batchProperties;
+    private final MigrationStatisticsRegistry statisticsRegistry;
+    // 이 Writer 인스턴스의 누적 통계 (Step별 통계는 statisticsRegistry에 집계)
+    private final MigrationStatistics statistics = new MigrationStatistics();
+
+    public LoadDataItemWriter(JdbcTemplate targetJdbcTemplate, BatchProperties batchProperties,
+                              MigrationStatisticsRegistry statisticsRegistry) {
+        this.targetJdbcTemplate = targetJdbcTemplate;
+        this.batchProperties = batchProperties;
+        this.statisticsRegistry = statisticsRegistry;
+    }
+
+    @Override
+    public void write(Chunk<? extends DataRecord> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 테이블별로 그룹화
+        Map<String, List<DataRecord>> recordsByTable = chunk.getItems().stream()
+                .collect(Collectors.groupingBy(DataRecord::getTableName));
+
+        for (Map.Entry<String, List<DataRecord>> entry : recordsByTable.entrySet()) {
+            String tableName = entry.getKey();
+            List<DataRecord> records = entry.getValue();
+
+            try {
+                int loaded = ForeignKeyChecks.run(targetJdbcTemplate, tableName,
+                        () -> loadRecords(tableName, records));
+                recordWritten(loaded, 0);
+
+                logger.info("Successfully loaded {} records to table: {}, Total written: {}",
+                    loaded, tableName, statistics.getWritten());
+
+            } catch (Exception e) {
+                recordWritten(0, records.size());
+                logger.error("Failed to load {} records to table: {}, Error: {}",
+                    records.size(), tableName, e.getMessage(), e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 특정 테이블에 레코드들을 LOAD DATA로 적재
+     *
+     * @return 적재된 행 수 (IGNORE는 건너뛴 행 제외, REPLACE는 청크 행 수를 넘지 않음)
+     * @throws JdbcUpdateAffectedIncorrectNumberOfRowsException INSERT 정책에서 경고로 건너뛴 행이 있는 경우
+     */
+    private int loadRecords(String tableName, List<DataRecord> records) {
+        Map<String, Object> firstData = records.get(0).getData();
+        if (firstData == null || firstData.isEmpty()) {
+            logger.warn("No data to write for table: {}", tableName);
+            return records.size();
+        }
+
+        List<String> columns = new ArrayList<>(firstData.keySet());
+        TsvBuffer buffer = toTsv(columns, records);
+        String loadSql = buildLoadDataQuery(tableName, columns);
+        logger.debug("Load SQL for table {}: {} ({} bytes)", tableName, loadSql, buffer.size());
+
+        Long result = targetJdbcTemplate.execute((StatementCallback<Long>) statement -> {
+            statement.unwrap(org.mariadb.jdbc.Statement.class).setLocalInfileInputStream(buffer.toInputStream());
+            long count = statement.executeLargeUpdate(loadSql);
+            if (count != records.size() && statement.getWarnings() != null) {
+                logger.warn("LOAD DATA warning for table: {}: {}", tableName, statement.getWarnings().getMessage());
+            }
+            return count;
+        });
+        long loaded = result != null ? result : 0;
+
+        if (loaded != records.size()
+                && batchProperties.getWriter().resolveInsertPolicy(tableName) == InsertPolicy.INSERT) {
+            throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(loadSql, records.size(), (int) loaded);
+        }
+
+        // 적재가 끝난 LOB 임시 파일 정리
+        for (DataRecord record : records) {
+            for (Object value : record.getData().values()) {
+                if (value instanceof LobValue) {
+                    ((LobValue) value).release();
+                }
+            }
+        }
+        return (int) Math.min(loaded, records.size());
+    }
+
+    /**
+     * LOAD DATA 쿼리 생성 (탭 구분, 백슬래시 이스케이프, utf8mb4)
+     */
+    String buildLoadDataQuery(String tableName, List<String> columns) {
+        String duplicateHandling = switch (batchProperties.getWriter().resolveInsertPolicy(tableName)) {
+            case INSERT -> "";
+            case IGNORE -> " IGNORE";
+            case REPLACE -> " REPLACE";
+            case UPSERT -> throw new IllegalStateException(
+                "UPSERT insert policy is not supported by LOAD_DATA write mode: " + tableName);
+        };
+        return "LOAD DATA LOCAL INFILE '" + tableName + ".tsv'" + duplicateHandling + " INTO TABLE " + tableName +
+                " CHARACTER SET utf8mb4" +
+                " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'" +
+                " LINES TERMINATED BY '\\n'" +
+                " (" + String.join(", ", columns) + ")";
+    }
+
+    /**
+     * 레코드들을 TSV로 직렬화
+     * NULL은 \N, 탭/개행/백슬래시/NUL은 백슬래시 이스케이프, 문자열은 UTF-8
+     */
+    TsvBuffer toTsv(List<String> columns, List<DataRecord> records) {
+        TsvBuffer buffer = new TsvBuffer(records.size() * columns.size() * 16);
+        try {
+            for (DataRecord record : records) {
+                Map<String, Object> data = record.getData();
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) {
+                        buffer.write('\t');
+                    }
+                    writeValue(buffer, data.get(columns.get(i)));
+                }
+                buffer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize records for LOAD DATA", e);
+        }
+        return buffer;
+    }
+
+    private void writeValue(TsvBuffer buffer, Object value) throws IOException {
+        if (value == null) {
+            buffer.write(NULL_VALUE);
+        } else if (value instanceof byte[]) {
+            writeEscaped(buffer, (byte[]) value, ((byte[]) value).length);
+        } else if (value instanceof LobValue) {
+            writeLob(buffer, (LobValue) value);
+        } else {
+            byte[] bytes = formatValue(value).getBytes(StandardCharsets.UTF_8);
+            writeEscaped(buffer, bytes, bytes.length);
+        }
+    }
+
+    /**
+     * 값을 MariaDB가 해석할 수 있는 문자열로 변환
+     */
+    private String formatValue(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "1" : "0";
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().format(DATETIME_FORMAT);
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).format(DATETIME_FORMAT);
+        }
+        return value.toString();
+    }
+
+    private void writeLob(TsvBuffer buffer, LobValue lob) throws IOException {
+        if (lob.isCharacter()) {
+            char[] chars = new char[4096];
+            try (Reader reader = lob.openReader()) {
+                int carry = 0;
+                int read;
+                while ((read = reader.read(chars, carry, chars.length - carry)) != -1) {
+                    int end = carry + read;
+                    // 서로게이트 쌍이 블록 경계에서 나뉘지 않도록 상위 서로게이트는 다음 블록으로 이월
+                    int usable = Character.isHighSurrogate(chars[end - 1]) ? end - 1 : end;
+                    byte[] bytes = new String(chars, 0, usable).getBytes(StandardCharsets.UTF_8);
+                    writeEscaped(buffer, bytes, bytes.length);
+                    carry = end - usable;
+                    if (carry > 0) {
+                        chars[0] = chars[end - 1];
+                    }
+                }
+                if (carry > 0) {
+                    byte[] bytes = new String(chars, 0, carry).getBytes(StandardCharsets.UTF_8);
+                    writeEscaped(buffer, bytes, bytes.length);
+                }
+            }
+        } else {
+            byte[] block = new byte[8192];
+            try (InputStream stream = lob.openStream()) {
+                int read;
+                while ((read = stream.read(block)) != -1) {
+                    writeEscaped(buffer, block, read);
+                }
+            }
+        }
+    }
+
+    private void writeEscaped(TsvBuffer buffer, byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            byte escaped = switch (b) {
+                case '\\' -> '\\';
+                case '\t' -> 't';
+                case '\n' -> 'n';
+                case '\r' -> 'r';
+                case 0 -> '0';
+                default -> b;
+            };
+            if (escaped != b || b == '\\') {
+                buffer.write('\\');
+            }
+            buffer.write(escaped);
+        }
+    }
+
+    /**
+     * 이 Writer와 현재 Step의 통계에 적재 결과 반영
+     */
+    private void recordWritten(int written, int failed) {
+        MigrationStatistics stepStatistics = statisticsRegistry.current();
+        statistics.addWritten(written);
+        statistics.addWriteErrors(failed);
+        stepStatistics.addWritten(written);
+        stepStatistics.addWriteErrors(failed);
+    }
+
+    /**
+     * 이 Writer의 누적 통계 (Step별 통계는 MigrationStatisticsRegistry 참고)
+     */
+    public MigrationStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * 쓰기 통계 정보 반환
+     */
+    public String getWritingStats() {
+        return String.format("Written: %d, Errors: %d, Success Rate: %.2f%%",
+            statistics.getWritten(), statistics.getWriteErrors(), statistics.getWriteSuccessRate());
+    }
+
+    /**
+     * 통계 초기화
+     */
+    public void resetStats() {
+        statistics.reset();
+    }
+
+    /**
+     * 내부 배열을 복사하지 않고 InputStream으로 넘길 수 있는 버퍼
+     */
+    static final class TsvBuffer extends ByteArrayOutputStream {
+
+        TsvBuffer(int initialSize) {
+            super(Math.max(initialSize, 256));
+        }
+
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.batch.writer;
+
+/**
+ * DatabaseItemWriter의 INSERT 실행 방식
+ */
+public enum WriteMode {
+
+    /**
+     * 행별 Object[] 파라미터로 JDBC 배치 INSERT (기본값)
+     */
+    BATCH,
+
+    /**
+     * 여러 행을 INSERT ... VALUES (...), (...) 한 문장으로 묶어 실행
+     * 문장 크기는 batch.writer.max-statement-bytes와 플레이스홀더 한도 이내로 제한
+     */
+    MULTI_ROW,
+
+    /**
+     * LoadDataItemWriter로 청크를 TSV로 직렬화하여 LOAD DATA LOCAL INFILE로 적재
+     */
+    LOAD_DATA
+}
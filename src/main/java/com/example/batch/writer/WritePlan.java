@@ -0,0 +1,126 @@
+package com.example.batch.writer;
+
+import com.example.batch.model.DataRecord;
+import com.example.batch.model.RecordSchema;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 테이블별 INSERT 실행 계획 (컬럼 순서, SQL, 컬럼별 JDBC 타입)
+ * 같은 컬럼 구성의 청크가 반복되는 동안 DatabaseItemWriter에서 재사용되며,
+ * 레코드의 컬럼 구성(fingerprint)이 바뀌면 새로 만들어짐
+ */
+final class WritePlan {
+
+    private final List<String> columns;
+    private final Set<String> columnSet;
+    private final RecordSchema schema;
+    private final InsertPolicy insertPolicy;
+    private final String insertSql;
+    private final int[] jdbcTypes;
+    private final SqlParameterValue[] typedNulls;
+
+    private WritePlan(List<String> columns, RecordSchema schema, InsertPolicy insertPolicy,
+                      String insertSql, int[] jdbcTypes) {
+        this.columns = List.copyOf(columns);
+        this.columnSet = new HashSet<>(columns);
+        this.schema = schema;
+        this.insertPolicy = insertPolicy;
+        this.insertSql = insertSql;
+        this.jdbcTypes = jdbcTypes;
+        this.typedNulls = new SqlParameterValue[jdbcTypes.length];
+        for (int i = 0; i < jdbcTypes.length; i++) {
+            if (jdbcTypes[i] != SqlTypeValue.TYPE_UNKNOWN) {
+                typedNulls[i] = new SqlParameterValue(jdbcTypes[i], null);
+            }
+        }
+    }
+
+    /**
+     * 첫 번째 레코드의 컬럼 구성으로 계획 생성
+     * JDBC 타입은 청크에서 컬럼별로 처음 나오는 NULL이 아닌 값의 타입으로 결정
+     */
+    static WritePlan create(List<DataRecord> records, InsertPolicy insertPolicy, Function<List<String>, String> sqlBuilder) {
+        DataRecord first = records.get(0);
+        RecordSchema schema = first.isSchemaBacked() ? first.getSchema() : null;
+        List<String> columns = schema != null
+                ? schema.getColumnNames()
+                : new ArrayList<>(first.getData().keySet());
+
+        int[] jdbcTypes = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            jdbcTypes[i] = SqlTypeValue.TYPE_UNKNOWN;
+            for (DataRecord record : records) {
+                Object value = record.getValue(columns.get(i));
+                if (value != null) {
+                    jdbcTypes[i] = StatementCreatorUtils.javaTypeToSqlParameterType(value.getClass());
+                    break;
+                }
+            }
+        }
+
+        return new WritePlan(columns, schema, insertPolicy, sqlBuilder.apply(columns), jdbcTypes);
+    }
+
+    /**
+     * 레코드의 컬럼 구성과 INSERT 정책이 이 계획과 같은지 확인
+     */
+    boolean matches(DataRecord record, InsertPolicy policy) {
+        if (policy != insertPolicy) {
+            return false;
+        }
+        if (schema != null && record.isSchemaBacked()) {
+            return schema.equals(record.getSchema());
+        }
+        return schema == null && !record.isSchemaBacked() && columnSet.equals(record.getData().keySet());
+    }
+
+    /**
+     * 계획의 컬럼 순서대로 행별 파라미터 배열 생성
+     * 같은 스키마의 레코드는 이름 조회 없이 값 배열에서 바로 복사하고,
+     * NULL 값은 컬럼 타입을 지정한 파라미터로 바꾸어 드라이버의 파라미터 메타데이터 조회를 피함
+     */
+    List<Object[]> buildBatchArgs(List<DataRecord> records) {
+        List<Object[]> batchArgs = new ArrayList<>(records.size());
+        for (DataRecord record : records) {
+            Object[] args;
+            if (schema != null && record.isSchemaBacked() && schema.equals(record.getSchema())) {
+                args = record.getValues().clone();
+            } else {
+                args = new Object[columns.size()];
+                Map<String, Object> data = record.getData();
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = data.get(columns.get(i));
+                }
+            }
+
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] == null) {
+                    args[i] = typedNulls[i];
+                }
+            }
+            batchArgs.add(args);
+        }
+        return batchArgs;
+    }
+
+    List<String> getColumns() {
+        return columns;
+    }
+
+    String getInsertSql() {
+        return insertSql;
+    }
+
+    int getJdbcType(int index) {
+        return jdbcTypes[index];
+    }
+}
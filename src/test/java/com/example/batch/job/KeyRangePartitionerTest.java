@@ -0,0 +1,76 @@
+package com.example.batch.job;
+
+import com.example.batch.reader.DatabaseItemReader;
+import com.example.batch.reader.KeyRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * KeyRangePartitioner 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("기본키 범위 Partitioner 테스트")
+class KeyRangePartitionerTest {
+
+    @Mock
+    private DatabaseItemReader databaseItemReader;
+
+    @Mock
+    private DataSource mockDataSource;
+
+    @Test
+    @DisplayName("기본키 범위별 ExecutionContext 생성 테스트")
+    void testPartitionByKeyRange() {
+        // Given
+        KeyRange fullRange = new KeyRange(0, 1, 100);
+        when(databaseItemReader.findPrimaryKeyColumn(mockDataSource, "주문")).thenReturn("주문ID");
+        when(databaseItemReader.findKeyRange(mockDataSource, "주문", "주문ID", null)).thenReturn(fullRange);
+        when(databaseItemReader.splitKeyRange(fullRange, 2)).thenCallRealMethod();
+
+        KeyRangePartitioner partitioner = new KeyRangePartitioner(databaseItemReader, mockDataSource, "주문", null);
+
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+        // Then
+        assertThat(partitions).hasSize(2);
+        ExecutionContext first = partitions.get("주문:partition0");
+        assertThat(first.getString(KeyRangePartitioner.TABLE_NAME_KEY)).isEqualTo("주문");
+        assertThat(first.getString(KeyRangePartitioner.KEY_COLUMN_KEY)).isEqualTo("주문ID");
+        assertThat(first.getLong(KeyRangePartitioner.MIN_KEY)).isEqualTo(1L);
+        assertThat(first.getLong(KeyRangePartitioner.MAX_KEY)).isEqualTo(50L);
+        assertThat(partitions.get("주문:partition1").getLong(KeyRangePartitioner.MIN_KEY)).isEqualTo(51L);
+        assertThat(first.containsKey(KeyRangePartitioner.WHERE_CLAUSE_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기본키로 분할할 수 없는 테이블 단일 파티션 테스트")
+    void testSinglePartitionWithoutPrimaryKey() {
+        // Given
+        when(databaseItemReader.findPrimaryKeyColumn(mockDataSource, "공지사항")).thenReturn(null);
+
+        KeyRangePartitioner partitioner =
+            new KeyRangePartitioner(databaseItemReader, mockDataSource, "공지사항", "게시여부 = 1");
+
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // Then
+        assertThat(partitions).hasSize(1);
+        ExecutionContext context = partitions.values().iterator().next();
+        assertThat(context.getString(KeyRangePartitioner.WHERE_CLAUSE_KEY)).isEqualTo("게시여부 = 1");
+        assertThat(context.containsKey(KeyRangePartitioner.MIN_KEY)).isFalse();
+        verify(databaseItemReader, never()).findKeyRange(any(), anyString(), anyString(), any());
+    }
+}
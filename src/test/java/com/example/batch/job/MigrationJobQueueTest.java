@@ -0,0 +1,109 @@
+package com.example.batch.job;
+
+import com.example.batch.config.BatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * MigrationJobQueue 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("비동기 Job 큐 테스트")
+class MigrationJobQueueTest {
+
+    @Mock
+    private JobRepository mockJobRepository;
+
+    @Mock
+    private Job mockJob;
+
+    // 제출된 실행 작업을 바로 실행하지 않고 보관 (스레드가 모두 사용 중인 상태)
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private final TaskExecutor holdingExecutor = pendingTasks::add;
+
+    private final BatchProperties batchProperties = new BatchProperties();
+    private MigrationJobQueue jobQueue;
+    private long nextExecutionId = 1;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        batchProperties.getLauncher().setMaxConcurrentJobs(1);
+        batchProperties.getLauncher().setQueueCapacity(1);
+        jobQueue = new MigrationJobQueue(mockJobRepository, holdingExecutor, batchProperties);
+
+        when(mockJob.getName()).thenReturn("usersMigrationJob");
+        when(mockJob.getJobParametersValidator()).thenReturn(new DefaultJobParametersValidator());
+        when(mockJobRepository.createJobExecution(anyString(), any(JobParameters.class))).thenAnswer(invocation -> {
+            long id = nextExecutionId++;
+            return new JobExecution(new JobInstance(id, invocation.getArgument(0)), id, invocation.getArgument(1));
+        });
+    }
+
+    private JobParameters parameters(String tableName) {
+        return new JobParametersBuilder().addString("tableName", tableName).toJobParameters();
+    }
+
+    @Test
+    @DisplayName("실행 요청은 바로 반환되고 한도 초과 시 거부 테스트")
+    void testSubmitReturnsImmediatelyAndRejectsWhenFull() throws Exception {
+        // When
+        JobExecution first = jobQueue.submit(mockJob, parameters("사용자"));
+        JobExecution second = jobQueue.submit(mockJob, parameters("상품"));
+
+        // Then - 실행 스레드 1 + 대기열 1 을 넘는 요청은 거부
+        assertThat(first.getStatus()).isEqualTo(BatchStatus.STARTING);
+        assertThat(pendingTasks).hasSize(2);
+        assertThatThrownBy(() -> jobQueue.submit(mockJob, parameters("주문")))
+            .isInstanceOf(TaskRejectedException.class);
+        assertThat(jobQueue.getQueuedJobs()).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("실행 중/대기 Job 구분 및 종료된 Job 제거 테스트")
+    @SuppressWarnings("unchecked")
+    void testSnapshotSeparatesQueuedAndRunningJobs() throws Exception {
+        // Given
+        JobExecution running = jobQueue.submit(mockJob, parameters("사용자"));
+        JobExecution queued = jobQueue.submit(mockJob, parameters("상품"));
+        running.setStatus(BatchStatus.STARTED);
+
+        // When
+        Map<String, Object> snapshot = jobQueue.snapshot();
+
+        // Then
+        assertThat((List<Map<String, Object>>) snapshot.get("running"))
+            .extracting(job -> job.get("jobExecutionId")).containsExactly(running.getId());
+        assertThat((List<Map<String, Object>>) snapshot.get("queued"))
+            .extracting(job -> job.get("jobExecutionId")).containsExactly(queued.getId());
+
+        // 끝난 Job은 목록에서 빠지고 자리가 비어 새 요청을 받음
+        running.setStatus(BatchStatus.COMPLETED);
+        assertThat(jobQueue.getRunningJobs()).isEmpty();
+        jobQueue.submit(mockJob, parameters("주문"));
+        assertThat(jobQueue.getQueuedJobs()).hasSize(2);
+    }
+}
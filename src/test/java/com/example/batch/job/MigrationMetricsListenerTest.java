@@ -0,0 +1,112 @@
+package com.example.batch.job;
+
+import com.example.batch.model.DataRecord;
+import com.example.batch.statistics.MigrationMetrics;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MigrationMetricsListener 테스트
+ */
+@DisplayName("청크 단계별 지표 리스너 테스트")
+class MigrationMetricsListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MigrationStatisticsRegistry statisticsRegistry = new MigrationStatisticsRegistry();
+    private final MigrationMetricsListener listener =
+        new MigrationMetricsListener("users", new MigrationMetrics(meterRegistry), statisticsRegistry);
+
+    private DataRecord user(int id, String name) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("user_id", id);
+        data.put("name", name);
+        return new DataRecord("users", data);
+    }
+
+    @Test
+    @DisplayName("청크 하나의 읽기/변환/쓰기 지표를 테이블, Step 태그로 기록 테스트")
+    void testRecordsChunkPhasesWithTags() {
+        // Given
+        StepExecution stepExecution = new StepExecution("usersMigrationStep", new JobExecution(1L), 1L);
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        List<DataRecord> items = List.of(user(1, "김철수"), user(2, "이영희"));
+
+        // When
+        listener.beforeChunk(chunkContext);
+        for (DataRecord item : items) {
+            listener.beforeRead();
+            listener.afterRead(item);
+            listener.beforeProcess(item);
+            listener.afterProcess(item, item);
+        }
+        listener.beforeWrite(new Chunk<>(items));
+        listener.afterWrite(new Chunk<>(items));
+        listener.afterChunk(chunkContext);
+
+        // Then - 문자열 3자 * 2바이트 + 정수 8바이트, 2행
+        assertThat(meterRegistry.get(MigrationMetrics.CHUNK_READ)
+            .tags("table", "users", "step", "usersMigrationStep").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MigrationMetrics.CHUNK_PROCESS).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MigrationMetrics.CHUNK_WRITE).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MigrationMetrics.CHUNK_ROWS).summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get(MigrationMetrics.CHUNK_READ_BYTES).summary().totalAmount()).isEqualTo(28);
+        // 읽은 행 수는 커밋 전에도 통계에 반영
+        assertThat(statisticsRegistry.current().getRead()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽은 행이 없는 마지막 청크는 기록하지 않음 테스트")
+    void testEmptyChunkIsNotRecorded() {
+        // Given
+        StepExecution stepExecution = new StepExecution("usersMigrationStep", new JobExecution(1L), 1L);
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+        // When
+        listener.beforeChunk(chunkContext);
+        listener.beforeRead();
+        listener.afterChunk(chunkContext);
+
+        // Then
+        assertThat(meterRegistry.find(MigrationMetrics.CHUNK_READ).timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("ASYNC 변환 모드에서 Future 청크의 쓰기 지표 기록 테스트")
+    void testAsyncWriteListenerRecordsWrite() {
+        // Given
+        StepExecution stepExecution = new StepExecution("usersMigrationStep", new JobExecution(1L), 1L);
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        ItemWriteListener<Future<DataRecord>> asyncWriteListener = listener.asyncWriteListener();
+        Chunk<Future<DataRecord>> futures = new Chunk<>(List.of(
+            CompletableFuture.completedFuture(user(1, "김철수")),
+            CompletableFuture.completedFuture(user(2, "이영희")),
+            CompletableFuture.completedFuture(user(3, "박민수"))));
+
+        // When
+        listener.beforeChunk(chunkContext);
+        asyncWriteListener.beforeWrite(futures);
+        asyncWriteListener.afterWrite(futures);
+        listener.afterChunk(chunkContext);
+
+        // Then - 변환은 다른 스레드에서 수행되므로 변환 지표는 없음
+        assertThat(meterRegistry.get(MigrationMetrics.CHUNK_WRITE).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MigrationMetrics.CHUNK_ROWS).summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.find(MigrationMetrics.CHUNK_PROCESS).timer()).isNull();
+    }
+}
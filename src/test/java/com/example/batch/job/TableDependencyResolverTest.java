@@ -0,0 +1,58 @@
+package com.example.batch.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TableDependencyResolver 테스트
+ */
+@DisplayName("테이블 의존성 분석 테스트")
+class TableDependencyResolverTest {
+
+    @Test
+    @DisplayName("외래키 기반 단계 구성 테스트")
+    void testBuildLevels() {
+        // Given
+        List<String> tables = List.of("주문상세", "주문", "상품", "사용자", "카테고리", "공지사항");
+        Map<String, Set<String>> parents = Map.of(
+            "상품", Set.of("카테고리"),
+            "주문", Set.of("사용자"),
+            "주문상세", Set.of("주문", "상품"));
+
+        // When
+        List<MigrationLevel> levels = TableDependencyResolver.buildLevels(tables, parents);
+
+        // Then - 부모가 없는 테이블은 모두 첫 단계에서 동시에 실행
+        assertThat(levels).hasSize(3);
+        assertThat(levels.get(0).getTables()).containsExactlyInAnyOrder("사용자", "카테고리", "공지사항");
+        assertThat(levels.get(1).getTables()).containsExactlyInAnyOrder("주문", "상품");
+        assertThat(levels.get(2).getTables()).containsExactly("주문상세");
+        assertThat(levels).noneMatch(MigrationLevel::isCyclic);
+    }
+
+    @Test
+    @DisplayName("순환 참조 테이블 마지막 단계 처리 테스트")
+    void testBuildLevelsWithCycle() {
+        // Given
+        List<String> tables = List.of("사용자", "쿠폰", "주문");
+        Map<String, Set<String>> parents = Map.of(
+            "쿠폰", Set.of("주문"),
+            "주문", Set.of("쿠폰"));
+
+        // When
+        List<MigrationLevel> levels = TableDependencyResolver.buildLevels(tables, parents);
+
+        // Then
+        assertThat(levels).hasSize(2);
+        assertThat(levels.get(0).getTables()).containsExactly("사용자");
+        assertThat(levels.get(0).isCyclic()).isFalse();
+        assertThat(levels.get(1).getTables()).containsExactlyInAnyOrder("쿠폰", "주문");
+        assertThat(levels.get(1).isCyclic()).isTrue();
+    }
+}
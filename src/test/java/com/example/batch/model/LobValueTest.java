@@ -0,0 +1,149 @@
+package com.example.batch.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * LobValue 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LOB 값 스트리밍 테스트")
+class LobValueTest {
+
+    @Mock
+    private PreparedStatement mockStatement;
+
+    @Test
+    @DisplayName("임계값 이하 문자 LOB은 String으로 반환 테스트")
+    void testSmallCharacterLobStaysInMemory() throws Exception {
+        // Given
+        Reader reader = new StringReader("short text");
+
+        // When
+        Object value = LobValue.readCharacters(reader, 16);
+
+        // Then
+        assertThat(value).isEqualTo("short text");
+    }
+
+    @Test
+    @DisplayName("임계값 초과 문자 LOB은 임시 파일로 저장 후 스트림 바인딩 테스트")
+    void testLargeCharacterLobIsSpooled() throws Exception {
+        // Given
+        String text = "x".repeat(100);
+
+        // When
+        Object value = LobValue.readCharacters(new StringReader(text), 10);
+
+        // Then
+        assertThat(value).isInstanceOf(LobValue.class);
+        LobValue lob = (LobValue) value;
+        assertThat(lob.isCharacter()).isTrue();
+        assertThat(lob.length()).isEqualTo(100);
+        try (Reader reader = lob.openReader()) {
+            char[] buffer = new char[200];
+            assertThat(new String(buffer, 0, reader.read(buffer))).isEqualTo(text);
+        }
+
+        lob.setTypeValue(mockStatement, 1, Types.CLOB, null);
+        verify(mockStatement).setCharacterStream(eq(1), any(Reader.class), eq(100L));
+
+        lob.release();
+        assertThatThrownBy(lob::openReader).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("임계값 초과 바이너리 LOB은 임시 파일로 저장 테스트")
+    void testLargeBinaryLobIsSpooled() throws Exception {
+        // Given
+        byte[] bytes = new byte[64];
+
+        // When
+        Object small = LobValue.readBytes(new ByteArrayInputStream(bytes), 64);
+        Object large = LobValue.readBytes(new ByteArrayInputStream(bytes), 32);
+
+        // Then
+        assertThat(small).isInstanceOf(byte[].class);
+        assertThat(large).isInstanceOf(LobValue.class);
+        LobValue lob = (LobValue) large;
+        assertThat(lob.isCharacter()).isFalse();
+        assertThat(lob.length()).isEqualTo(64);
+
+        lob.setTypeValue(mockStatement, 2, Types.BLOB, null);
+        verify(mockStatement).setBinaryStream(eq(2), any(InputStream.class), eq(64L));
+        lob.release();
+    }
+
+    @Test
+    @DisplayName("임계값이 버퍼보다 큰 문자 LOB 경계값 테스트")
+    void testCharacterLobLargerThanBuffer() throws Exception {
+        // Given - 버퍼(8192자)를 여러 번 채우는 길이
+        String exact = "가".repeat(20_000);
+        String over = exact + "나";
+
+        // When
+        Object inMemory = LobValue.readCharacters(new StringReader(exact), 20_000);
+        Object spooled = LobValue.readCharacters(new StringReader(over), 20_000);
+
+        // Then
+        assertThat(inMemory).isEqualTo(exact);
+        assertThat(spooled).isInstanceOf(LobValue.class);
+        LobValue lob = (LobValue) spooled;
+        assertThat(lob.length()).isEqualTo(20_001);
+        try (Reader reader = lob.openReader()) {
+            StringBuilder content = new StringBuilder();
+            char[] buffer = new char[4096];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                content.append(buffer, 0, read);
+            }
+            assertThat(content.toString()).isEqualTo(over);
+        }
+        lob.release();
+    }
+
+    @Test
+    @DisplayName("기록되지 않은 LOB 임시 파일은 Step 종료 시 삭제 테스트")
+    void testLeftoverSpoolFilesAreReleasedAfterStep() throws Exception {
+        // Given - Step 실행 중 두 값을 임시 파일로 저장하고 하나만 기록 완료
+        StepExecution stepExecution = new StepExecution("documentsStep", new JobExecution(1L), 20L);
+        StepSynchronizationManager.register(stepExecution);
+        LobValue written;
+        LobValue skipped;
+        try {
+            written = (LobValue) LobValue.readCharacters(new StringReader("x".repeat(100)), 10);
+            skipped = (LobValue) LobValue.readBytes(new ByteArrayInputStream(new byte[64]), 32);
+        } finally {
+            StepSynchronizationManager.close();
+        }
+        written.release();
+
+        // When
+        int deleted = LobValue.releaseSpoolFiles(stepExecution);
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThatThrownBy(skipped::openStream).isInstanceOf(IOException.class);
+        assertThat(LobValue.releaseSpoolFiles(stepExecution)).isZero();
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.batch.processor;
 
+import com.example.batch.config.BatchProperties;
 import com.example.batch.model.DataRecord;
+import com.example.batch.model.RecordSchema;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import org.springframework.core.io.DefaultResourceLoader;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -26,6 +34,16 @@ class DataTransformProcessorTest {
     @InjectMocks
     private DataTransformProcessor processor;
 
+    @Spy
+    private MigrationStatisticsRegistry statisticsRegistry = new MigrationStatisticsRegistry();
+
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @Spy
+    private MappingDictionaryRegistry mappingRegistry =
+        new MappingDictionaryRegistry(new BatchProperties(), new DefaultResourceLoader());
+
     private DataRecord testRecord;
     private Map<String, Object> testData;
 
@@ -69,6 +87,7 @@ class DataTransformProcessorTest {
         assertThat(resultData.get("occupation")).isEqualTo("개발자");
         assertThat(resultData.get("is_active")).isEqualTo(true);
         assertThat(resultData.get("migrated_at")).isInstanceOf(LocalDateTime.class);
+        assertThat(result.getProcessedAt()).isEqualTo(resultData.get("migrated_at"));
     }
 
     @Test
@@ -273,4 +292,128 @@ class DataTransformProcessorTest {
         assertThat(resultData.get("inquiry_type")).isEqualTo("PRODUCT_INQUIRY");
         assertThat(resultData.get("status")).isEqualTo("RECEIVED");
     }
+
+    @Test
+    @DisplayName("스키마 기반 레코드 변환 테스트")
+    void testSchemaBackedRecordTransformation() throws Exception {
+        // Given
+        RecordSchema schema = RecordSchema.of(List.of("사용자ID", "이름", "전화번호", "성별"));
+        DataRecord record = new DataRecord("사용자", schema, new Object[]{1, " 김철수 ", "", "여성"});
+
+        // When
+        DataRecord result = processor.process(record);
+
+        // Then - 원본은 그대로 두고 타겟 스키마 기반 레코드를 새로 생성
+        assertThat(result).isNotSameAs(record);
+        assertThat(result.isSchemaBacked()).isTrue();
+        assertThat(result.getTableName()).isEqualTo("users");
+        assertThat(result.getValue("user_id")).isEqualTo(1);
+        assertThat(result.getValue("name")).isEqualTo("김철수");
+        assertThat(result.getValue("phone_number")).isNull();
+        assertThat(result.getValue("gender")).isEqualTo("FEMALE");
+        assertThat(result.getValue("migrated_at")).isInstanceOf(LocalDateTime.class);
+        assertThat(result.getProcessedAt()).isEqualTo(result.getValue("migrated_at"));
+        assertThat(record.getValue("이름")).isEqualTo(" 김철수 ");
+    }
+
+    @Test
+    @DisplayName("같은 스키마의 레코드는 변환 계획과 타겟 스키마 공유 테스트")
+    void testSchemaBackedRecordsShareTargetSchema() throws Exception {
+        // Given
+        RecordSchema schema = RecordSchema.of(List.of("상품ID", "판매상태"));
+
+        // When
+        DataRecord first = processor.process(new DataRecord("상품", schema, new Object[]{1, "판매중"}));
+        DataRecord second = processor.process(new DataRecord("상품", schema, new Object[]{2, "품절"}));
+        DataRecord changed = processor.process(
+            new DataRecord("상품", RecordSchema.of(List.of("상품ID", "상품명")), new Object[]{3, "노트북"}));
+
+        // Then - 스키마가 바뀌면 계획을 다시 컴파일
+        assertThat(second.getSchema()).isSameAs(first.getSchema());
+        assertThat(second.getValue("sales_status")).isEqualTo("OUT_OF_STOCK");
+        assertThat(changed.getSchema()).isNotEqualTo(first.getSchema());
+        assertThat(changed.getValue("product_name")).isEqualTo("노트북");
+    }
+
+    @Test
+    @DisplayName("청크 단위 변환 시 migrated_at 공유 및 검증 실패 행 제외 테스트")
+    void testProcessChunk() throws Exception {
+        // Given - 스키마 기반 2건, Map 기반 1건, 빈 레코드 1건
+        RecordSchema schema = RecordSchema.of(List.of("주문ID", "주문상태"));
+        testData.put("사용자ID", 1);
+        testData.put("성별", "남성");
+        DataRecord mapRecord = new DataRecord("사용자", testData);
+        Chunk<DataRecord> chunk = new Chunk<>(List.of(
+            new DataRecord("주문", schema, new Object[]{1, "배송중"}),
+            new DataRecord("주문", schema, new Object[]{2, "주문취소"}),
+            mapRecord,
+            new DataRecord("사용자", new HashMap<>())));
+
+        // When
+        Chunk<DataRecord> result = processor.processChunk(chunk);
+
+        // Then
+        assertThat(result.size()).isEqualTo(3);
+        List<DataRecord> items = result.getItems();
+        assertThat(items.get(0).getValue("order_status")).isEqualTo("SHIPPING");
+        assertThat(items.get(1).getValue("order_status")).isEqualTo("CANCELLED");
+        assertThat(items.get(2).getValue("gender")).isEqualTo("MALE");
+        assertThat(items).extracting(item -> item.getValue("migrated_at"))
+            .containsOnly(items.get(0).getValue("migrated_at"));
+        assertThat(items).extracting(DataRecord::getProcessedAt)
+            .containsOnly((LocalDateTime) items.get(0).getValue("migrated_at"));
+
+        // 원본 레코드는 변경되지 않아 재변환 가능
+        assertThat(mapRecord.getTableName()).isEqualTo("사용자");
+        assertThat(mapRecord.getValue("성별")).isEqualTo("남성");
+        // 처리 통계는 쓰기 성공 후에만 집계
+        assertThat(processor.getProcessingStats()).contains("Processed: 0");
+    }
+
+    @Test
+    @DisplayName("청크 변환 통계는 쓰기에 성공한 청크만 한 번 집계 테스트")
+    void testChunkStatisticsRecordedOnlyForWrittenChunk() throws Exception {
+        // Given - 첫 쓰기는 실패하고 재시도에서 성공, 빈 레코드 1건은 검증 실패
+        RecordSchema schema = RecordSchema.of(List.of("주문ID", "주문상태"));
+        Chunk<DataRecord> chunk = new Chunk<>(List.of(
+            new DataRecord("주문", schema, new Object[]{1, "배송중"}),
+            new DataRecord("주문", schema, new Object[]{2, "주문취소"}),
+            new DataRecord("사용자", new HashMap<>())));
+        int[] attempts = {0};
+        ChunkTransformingItemWriter writer = new ChunkTransformingItemWriter(processor, items -> {
+            if (attempts[0]++ == 0) {
+                throw new IllegalStateException("Deadlock found");
+            }
+        });
+
+        // When
+        assertThrows(IllegalStateException.class, () -> writer.write(chunk));
+        writer.write(chunk);
+
+        // Then - 두 번 변환되었지만 처리 3건, 검증 실패 1건만 집계
+        assertThat(processor.getStatistics().getProcessed()).isEqualTo(3);
+        assertThat(processor.getStatistics().getProcessErrors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("매핑 사전 교체 시 변환 계획 다시 컴파일 테스트")
+    void testPlanRecompiledWhenDictionaryChanges() throws Exception {
+        // Given
+        RecordSchema schema = RecordSchema.of(List.of("사용자ID", "성별"));
+        DataRecord before = processor.process(new DataRecord("사용자", schema, new Object[]{1, "남성"}));
+        doReturn(MappingDictionary.of(99, "test",
+                Map.of("사용자", "members"),
+                Map.of("사용자", Map.of("사용자ID", "member_id", "성별", "sex")),
+                Map.of("sex", Map.of("남성", "M"))))
+            .when(mappingRegistry).current();
+
+        // When
+        DataRecord after = processor.process(new DataRecord("사용자", schema, new Object[]{2, "남성"}));
+
+        // Then
+        assertThat(before.getTableName()).isEqualTo("users");
+        assertThat(after.getTableName()).isEqualTo("members");
+        assertThat(after.getValue("member_id")).isEqualTo(2);
+        assertThat(after.getValue("sex")).isEqualTo("M");
+    }
 }
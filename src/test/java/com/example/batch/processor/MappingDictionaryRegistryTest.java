@@ -0,0 +1,134 @@
+package com.example.batch.processor;
+
+import com.example.batch.config.BatchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MappingDictionaryRegistry 테스트
+ */
+@DisplayName("매핑 사전 로드 및 교체 테스트")
+class MappingDictionaryRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path mappingFile;
+    private MappingDictionaryRegistry registry;
+    private final JobExecution jobExecution = new JobExecution(1L);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mappingFile = tempDir.resolve("mappings.json");
+        write("{\"tables\": {\"사용자\": \"users\"},"
+            + " \"columns\": {\"사용자\": {\"성별\": \"gender\"}},"
+            + " \"values\": {\"gender\": {\"남성\": \"MALE\"}}}");
+
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.getMapping().setLocation("file:" + mappingFile);
+        registry = new MappingDictionaryRegistry(batchProperties, new DefaultResourceLoader());
+    }
+
+    @AfterEach
+    void tearDown() {
+        StepSynchronizationManager.close();
+    }
+
+    private void write(String content) throws IOException {
+        Files.writeString(mappingFile, content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("기본 YAML 매핑 사전 로드 테스트")
+    void testLoadsDefaultYamlDictionary() {
+        // When
+        MappingDictionary dictionary =
+            new MappingDictionaryRegistry(new BatchProperties(), new DefaultResourceLoader()).current();
+
+        // Then
+        assertThat(dictionary.resolveTableName("주문상세")).isEqualTo("order_details");
+        assertThat(dictionary.getColumnMapping("상품")).containsEntry("판매상태", "sales_status");
+        assertThat(dictionary.getValueMapping("order_status")).containsEntry("배송완료", "DELIVERED");
+        assertThat(dictionary.getSourceColumns("공지사항")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 읽은 사전은 다음 Step 시작 시 적용 테스트")
+    void testReloadIsAppliedOnNextStep() throws IOException {
+        // Given
+        MappingDictionary before = registry.current();
+        write("{\"tables\": {\"사용자\": \"members\"}}");
+
+        // When
+        MappingDictionary reloaded = registry.reload();
+
+        // Then - beforeStep 전까지는 기존 사전 유지
+        assertThat(registry.current()).isSameAs(before);
+        assertThat(registry.getPending()).isSameAs(reloaded);
+
+        registry.beforeStep(new StepExecution("usersStep", jobExecution, 10L));
+        assertThat(registry.current()).isSameAs(reloaded);
+        assertThat(registry.current().resolveTableName("사용자")).isEqualTo("members");
+        assertThat(registry.current().getVersion()).isGreaterThan(before.getVersion());
+        assertThat(registry.activatePending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실행 중인 Step은 다른 Step이 새 사전을 적용해도 시작 시점의 사전 유지 테스트")
+    void testDictionaryIsPinnedPerStepExecution() throws IOException {
+        // Given - usersStep 실행 중에 사전을 다시 읽고 ordersStep이 시작됨
+        StepExecution usersStep = new StepExecution("usersStep", jobExecution, 10L);
+        StepExecution ordersStep = new StepExecution("ordersStep", jobExecution, 11L);
+        registry.beforeStep(usersStep);
+        MappingDictionary before = registry.current();
+
+        write("{\"tables\": {\"사용자\": \"members\"}}");
+        MappingDictionary reloaded = registry.reload();
+        registry.beforeStep(ordersStep);
+
+        // When & Then
+        StepSynchronizationManager.register(usersStep);
+        assertThat(registry.current()).isSameAs(before);
+        StepSynchronizationManager.close();
+
+        StepSynchronizationManager.register(ordersStep);
+        assertThat(registry.current()).isSameAs(reloaded);
+        StepSynchronizationManager.close();
+
+        // Step이 끝나면 고정된 사전을 놓고 최신 사전 사용
+        registry.afterStep(usersStep);
+        assertThat(registry.isInUse(before)).isFalse();
+        StepSynchronizationManager.register(usersStep);
+        assertThat(registry.current()).isSameAs(reloaded);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 사전은 거부하고 현재 사전 유지 테스트")
+    void testInvalidDictionaryIsRejected() throws IOException {
+        // Given
+        MappingDictionary before = registry.current();
+        write("{\"values\": {\"gender\": [\"남성\", \"여성\"]}}");
+
+        // When & Then
+        assertThatThrownBy(() -> registry.reload())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("values.gender");
+        assertThat(registry.current()).isSameAs(before);
+        assertThat(registry.getPending()).isNull();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.batch.processor;
+
+import com.example.batch.model.DataRecord;
+import com.example.batch.model.RecordSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TransformPlan 테스트
+ */
+@DisplayName("컴파일된 변환 계획 테스트")
+class TransformPlanTest {
+
+    private static final Map<String, Map<String, String>> VALUE_MAPPING =
+        Map.of("status", Map.of("접수", "RECEIVED"));
+
+    @Test
+    @DisplayName("컬럼 위치/이름 매핑 및 migrated_at 추가 테스트")
+    void testCompileMapsColumnsAndAppendsMigratedAt() {
+        // Given
+        RecordSchema source = RecordSchema.of(List.of("문의ID", "처리상태", "제목"));
+        Map<String, String> columnMapping = Map.of("문의ID", "inquiry_id", "처리상태", "status");
+        LocalDateTime migratedAt = LocalDateTime.now();
+
+        // When
+        TransformPlan plan = TransformPlan.compile(source, "inquiries", columnMapping, VALUE_MAPPING, 0);
+        DataRecord result = plan.apply(new DataRecord("문의", source, new Object[]{7, " 접수 ", "  "}), migratedAt);
+
+        // Then - 매핑이 없는 컬럼은 이름 유지, 매핑에 없는 값은 공백만 제거
+        assertThat(plan.getTargetTable()).isEqualTo("inquiries");
+        assertThat(result.getData().keySet()).containsExactly("inquiry_id", "status", "제목", "migrated_at");
+        assertThat(result.getValues()).containsExactly(7, "RECEIVED", null, migratedAt);
+    }
+
+    @Test
+    @DisplayName("같은 타겟 컬럼으로 매핑된 소스 컬럼은 한 칸만 사용 테스트")
+    void testDuplicateTargetColumnUsesSingleSlot() {
+        // Given - 소스에 migrated_at 컬럼이 이미 있는 경우도 같은 칸을 재사용
+        RecordSchema source = RecordSchema.of(List.of("수정일시", "등록일시", "migrated_at"));
+        Map<String, String> columnMapping = Map.of("수정일시", "updated_at", "등록일시", "updated_at");
+        LocalDateTime migratedAt = LocalDateTime.now();
+
+        // When
+        TransformPlan plan = TransformPlan.compile(source, "users", columnMapping, VALUE_MAPPING, 0);
+        DataRecord result = plan.apply(new DataRecord("사용자", source, new Object[]{"a", "b", "old"}), migratedAt);
+
+        // Then
+        assertThat(plan.getTargetSchema().getColumnCount()).isEqualTo(2);
+        assertThat(result.getValue("updated_at")).isEqualTo("b");
+        assertThat(result.getValue("migrated_at")).isEqualTo(migratedAt);
+        assertThat(plan.matches(RecordSchema.of(List.of("수정일시", "등록일시", "migrated_at")))).isTrue();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.batch.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ValueDictionary 테스트
+ */
+@DisplayName("저카디널리티 값 사전 테스트")
+class ValueDictionaryTest {
+
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    private ValueConverter counting(ValueConverter converter) {
+        return value -> {
+            conversions.incrementAndGet();
+            return converter.convert(value);
+        };
+    }
+
+    @Test
+    @DisplayName("반복되는 값은 한 번만 변환하고 같은 인스턴스 반환 테스트")
+    void testRepeatedValuesAreConvertedOnce() {
+        // Given
+        ValueDictionary dictionary = new ValueDictionary("sales_status",
+            counting(ValueConverter.mapped(Map.of("판매중", "ON_SALE"))), 16);
+
+        // When - 드라이버는 행마다 새 String을 만듦
+        Object first = dictionary.convert(new String(" 판매중 "));
+        Object second = dictionary.convert(new String(" 판매중 "));
+        Object other = dictionary.convert(new String("예약판매 "));
+        Object empty = dictionary.convert("  ");
+        Object emptyAgain = dictionary.convert("  ");
+
+        // Then
+        assertThat(first).isEqualTo("ON_SALE").isSameAs(second);
+        assertThat(other).isEqualTo("예약판매");
+        assertThat(empty).isNull();
+        assertThat(emptyAgain).isNull();
+        assertThat(conversions.get()).isEqualTo(3);
+        assertThat(dictionary.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("서로 다른 값이 한도를 넘으면 사전 해제 테스트")
+    void testHighCardinalityColumnDisablesDictionary() {
+        // Given
+        ValueDictionary dictionary = new ValueDictionary("name", counting(ValueConverter.TRIM), 3);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            dictionary.convert("이름" + i);
+        }
+        dictionary.convert("이름0");
+
+        // Then - 한도 이후 값과 반복 값 모두 변환기를 바로 호출
+        assertThat(dictionary.isHighCardinality()).isTrue();
+        assertThat(dictionary.size()).isZero();
+        assertThat(conversions.get()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("문자열이 아닌 값은 사전을 거치지 않음 테스트")
+    void testNonStringValuesBypassDictionary() {
+        // Given
+        ValueDictionary dictionary = new ValueDictionary("gender", counting(ValueConverter.TRIM), 16);
+
+        // When
+        Object number = dictionary.convert(42);
+
+        // Then
+        assertThat(number).isEqualTo(42);
+        assertThat(dictionary.size()).isZero();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.batch.reader;
+
+import com.example.batch.config.BatchProperties;
+import com.example.batch.processor.MappingDictionaryRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ColumnProjection 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("컬럼 프로젝션 테스트")
+class ColumnProjectionTest {
+
+    @Mock
+    private DataSource mockDataSource;
+
+    private BatchProperties batchProperties;
+    private ColumnProjection columnProjection;
+
+    @BeforeEach
+    void setUp() {
+        batchProperties = new BatchProperties();
+        columnProjection = new ColumnProjection(batchProperties,
+            new MappingDictionaryRegistry(batchProperties, new DefaultResourceLoader()));
+    }
+
+    @Test
+    @DisplayName("설정이 없으면 전체 컬럼 조회 테스트")
+    void testNoProjectionByDefault() {
+        assertThat(columnProjection.resolve(mockDataSource, "상품", "상품ID")).isNull();
+    }
+
+    @Test
+    @DisplayName("포함/제외 컬럼 설정 테스트")
+    void testIncludeAndExcludeColumns() {
+        // Given
+        batchProperties.getReader().getIncludeColumns().put("상품", List.of("상품명", "상품설명", "가격"));
+        batchProperties.getReader().getExcludeColumns().put("상품", List.of("상품설명"));
+
+        // When
+        List<String> columns = columnProjection.resolve(mockDataSource, "상품", "상품ID");
+
+        // Then - 기본키는 항상 포함
+        assertThat(columns).containsExactly("상품ID", "상품명", "가격");
+    }
+
+    @Test
+    @DisplayName("컬럼 매핑 기반 프로젝션 테스트")
+    void testProjectMappedColumns() {
+        // Given
+        batchProperties.getReader().setProjectMappedColumns(true);
+
+        // When
+        List<String> columns = columnProjection.resolve(mockDataSource, "주문상세", null);
+
+        // Then
+        assertThat(columns).containsExactlyInAnyOrder("주문상세ID", "주문ID", "상품ID", "수량", "단가", "소계");
+        assertThat(columnProjection.resolve(mockDataSource, "공지사항", null)).isNull();
+    }
+}
@@ -9,12 +9,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.jdbc.core.RowMapper;
 
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -108,12 +110,27 @@ class DatabaseItemReaderTest {
         when(mockResultSet.getObject(2)).thenReturn("김철수");
         when(mockResultSet.getObject(3)).thenReturn("kim.cs@example.com");
 
-        // RowMapper 직접 테스트를 위한 리플렉션 사용
-        // 실제로는 내부 클래스이므로 통합 테스트에서 검증하는 것이 더 적절
-        
-        // When & Then
-        // 이 테스트는 통합 테스트에서 더 적절하게 검증됨
-        assertTrue(true); // 플레이스홀더
+        DatabaseItemReader.DataRecordRowMapper rowMapper = new DatabaseItemReader.DataRecordRowMapper("사용자");
+
+        // When - 같은 ResultSet에서 두 행을 매핑
+        DataRecord first = rowMapper.mapRow(mockResultSet, 0);
+        DataRecord second = rowMapper.mapRow(mockResultSet, 1);
+
+        // Then
+        assertThat(first.getTableName()).isEqualTo("사용자");
+        assertThat(first.getValue("사용자ID")).isEqualTo(1);
+        assertThat(first.getValue("이름")).isEqualTo("김철수");
+        assertThat(first.getValue("이메일")).isEqualTo("kim.cs@example.com");
+        assertThat(second.getValue("이름")).isEqualTo("김철수");
+        assertThat(first.getData()).containsEntry("이메일", "kim.cs@example.com");
+
+        // 행들은 같은 스키마 객체를 공유해야 함
+        assertThat(first.isSchemaBacked()).isTrue();
+        assertThat(second.getSchema()).isSameAs(first.getSchema());
+
+        // 메타데이터는 ResultSet당 한 번만 조회되어야 함
+        verify(mockResultSet, times(1)).getMetaData();
+        verify(mockMetaData, times(1)).getColumnName(1);
     }
 
     @Test
@@ -232,4 +249,76 @@ class DatabaseItemReaderTest {
             mockDataSource, tableName, null, 10000);
         assertThat(readerMax).isNotNull();
     }
+
+    @Test
+    @DisplayName("기본키 범위 균등 분할 테스트")
+    void testSplitKeyRange() {
+        // Given
+        KeyRange fullRange = new KeyRange(0, 1, 10);
+
+        // When
+        List<KeyRange> ranges = databaseItemReader.splitKeyRange(fullRange, 3);
+
+        // Then - 나머지는 앞쪽 구간에 배분되고 구간 사이에 빈틈이 없어야 함
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0).getMinKey()).isEqualTo(1);
+        assertThat(ranges.get(0).getMaxKey()).isEqualTo(4);
+        assertThat(ranges.get(1).getMinKey()).isEqualTo(5);
+        assertThat(ranges.get(1).getMaxKey()).isEqualTo(7);
+        assertThat(ranges.get(2).getMinKey()).isEqualTo(8);
+        assertThat(ranges.get(2).getMaxKey()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("키 개수보다 많은 파티션 요청 시 분할 테스트")
+    void testSplitKeyRangeWithMorePartitionsThanKeys() {
+        // Given
+        KeyRange fullRange = new KeyRange(0, 100, 101);
+
+        // When
+        List<KeyRange> ranges = databaseItemReader.splitKeyRange(fullRange, 8);
+
+        // Then
+        assertThat(ranges).hasSize(2);
+        assertThat(ranges.get(0).size()).isEqualTo(1);
+        assertThat(ranges.get(1).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기본키 범위 Reader 생성 테스트")
+    void testCreateRangeReader() {
+        // Given
+        KeyRange range = new KeyRange(2, 1000, 1999);
+
+        // When
+        JdbcCursorItemReader<DataRecord> reader = databaseItemReader.createRangeReader(
+            mockDataSource, "주문", null, "주문ID", range, 1000);
+
+        // Then
+        assertThat(reader).isNotNull();
+        assertThat(reader.getName()).isEqualTo("주문Partition2ItemReader");
+    }
+
+    @Test
+    @DisplayName("키셋 페이징 Reader 생성 테스트")
+    void testCreateKeysetReader() {
+        // When
+        JdbcPagingItemReader<DataRecord> reader = databaseItemReader.createKeysetReader(
+            mockDataSource, "주문", "주문상태 = '배송완료'", "주문ID", null, 1000);
+
+        // Then
+        assertThat(reader).isNotNull();
+        assertThat(reader.getName()).isEqualTo("주문KeysetItemReader");
+    }
+
+    @Test
+    @DisplayName("키 범위가 지정된 키셋 페이징 Reader 생성 테스트")
+    void testCreateKeysetReaderWithRange() {
+        // When
+        JdbcPagingItemReader<DataRecord> reader = databaseItemReader.createKeysetReader(
+            mockDataSource, "주문", null, "주문ID", new KeyRange(1, 501, 1000), 500);
+
+        // Then
+        assertThat(reader.getName()).isEqualTo("주문Partition1KeysetItemReader");
+    }
 }
@@ -0,0 +1,108 @@
+package com.example.batch.reader;
+
+import com.example.batch.model.DataRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * KeyResumingItemReader 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("기본키 기반 재시작 리더 테스트")
+class KeyResumingItemReaderTest {
+
+    @Mock
+    private DatabaseItemReader databaseItemReader;
+
+    @Mock
+    private DataSource mockDataSource;
+
+    @Mock
+    private JdbcCursorItemReader<DataRecord> mockDelegate;
+
+    private DataRecord order(long orderId) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("주문ID", orderId);
+        return new DataRecord("주문", data);
+    }
+
+    @Test
+    @DisplayName("마지막 커밋 키 이후부터 재시작 테스트")
+    void testResumeAfterLastCommittedKey() throws Exception {
+        // Given
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.put("주문ItemReader.lastKey", 500L);
+
+        when(databaseItemReader.createKeyOrderedReader(
+            mockDataSource, "주문", null, "주문ID", null, 500L, 1000)).thenReturn(mockDelegate);
+
+        KeyResumingItemReader reader =
+            new KeyResumingItemReader(databaseItemReader, mockDataSource, "주문", null, "주문ID", null, 1000);
+
+        // When
+        reader.open(executionContext);
+
+        // Then - 행 개수 기반 상태는 사용하지 않음
+        verify(mockDelegate).open(argThat(context -> context.isEmpty()));
+        verify(databaseItemReader, never()).findPrimaryKeyColumn(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("청크 커밋 시 마지막 키 저장 테스트")
+    void testUpdateStoresLastReadKey() throws Exception {
+        // Given
+        when(databaseItemReader.findPrimaryKeyColumn(mockDataSource, "주문")).thenReturn("주문ID");
+        when(databaseItemReader.createKeyOrderedReader(
+            mockDataSource, "주문", null, "주문ID", null, null, 1000)).thenReturn(mockDelegate);
+        when(mockDelegate.read()).thenReturn(order(1L), order(2L), null);
+
+        KeyResumingItemReader reader =
+            new KeyResumingItemReader(databaseItemReader, mockDataSource, "주문", null, null, null, 1000);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        // When
+        while (reader.read() != null) {
+            // 모든 행 읽기
+        }
+        reader.update(executionContext);
+
+        // Then
+        assertThat(executionContext.get("주문ItemReader.lastKey")).isEqualTo(2L);
+        assertThat(reader.getKeyColumn()).isEqualTo("주문ID");
+    }
+
+    @Test
+    @DisplayName("기본키가 없는 테이블 일반 커서 동작 테스트")
+    void testFallbackWithoutPrimaryKey() throws Exception {
+        // Given
+        when(databaseItemReader.findPrimaryKeyColumn(mockDataSource, "공지사항")).thenReturn(null);
+        when(databaseItemReader.createReader(mockDataSource, "공지사항", null, 1000)).thenReturn(mockDelegate);
+        when(mockDelegate.getExecutionContextKey("read.count")).thenReturn("공지사항ItemReader.read.count");
+
+        KeyResumingItemReader reader =
+            new KeyResumingItemReader(databaseItemReader, mockDataSource, "공지사항", null, null, null, 1000);
+        ExecutionContext executionContext = new ExecutionContext();
+
+        // When
+        reader.open(executionContext);
+        reader.update(executionContext);
+
+        // Then - 상태 관리는 기존 커서 Reader에 위임
+        verify(mockDelegate).open(executionContext);
+        verify(mockDelegate).update(executionContext);
+    }
+}
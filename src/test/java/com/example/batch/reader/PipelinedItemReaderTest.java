@@ -0,0 +1,152 @@
+package com.example.batch.reader;
+
+import com.example.batch.model.DataRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.step.skip.NonSkippableReadException;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PipelinedItemReader 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("파이프라인 ItemReader 테스트")
+class PipelinedItemReaderTest {
+
+    @Mock
+    private KeyResumingItemReader mockDelegate;
+
+    private final SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("pipeline-");
+
+    private DataRecord user(int id) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("사용자ID", id);
+        return new DataRecord("사용자", data);
+    }
+
+    private DataRecord renamed(DataRecord item) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("user_id", item.getValue("사용자ID"));
+        return new DataRecord("users", data);
+    }
+
+    @Test
+    @DisplayName("변환된 아이템 순서 유지 및 실제 반환된 위치만 저장 테스트")
+    void testReadsProcessedItemsAndSavesConsumedKey() throws Exception {
+        // Given - 짝수 ID는 Processor가 걸러냄
+        when(mockDelegate.getKeyColumn()).thenReturn("사용자ID");
+        when(mockDelegate.read()).thenReturn(user(1), user(2), user(3), user(4), user(5), null);
+        ItemProcessor<DataRecord, DataRecord> processor =
+            item -> (Integer) item.getValue("사용자ID") % 2 == 0 ? null : renamed(item);
+        ExecutionContext executionContext = new ExecutionContext();
+
+        PipelinedItemReader reader = new PipelinedItemReader(mockDelegate, processor, 2, "usersPipeline", taskExecutor);
+        reader.open(executionContext);
+
+        // When
+        DataRecord first = reader.read();
+        DataRecord second = reader.read();
+        reader.update(executionContext);
+
+        // Then - 위임 Reader가 앞서 읽었더라도 반환된 3번 행까지만 처리된 것으로 저장
+        assertThat(first.getTableName()).isEqualTo("users");
+        assertThat(first.getValue("user_id")).isEqualTo(1);
+        assertThat(second.getValue("user_id")).isEqualTo(3);
+        verify(mockDelegate).updateConsumed(executionContext, 3, 3L);
+        verify(mockDelegate, never()).update(any());
+
+        assertThat(reader.read().getValue("user_id")).isEqualTo(5);
+        assertThat(reader.read()).isNull();
+        reader.close();
+        verify(mockDelegate).close();
+    }
+
+    @Test
+    @DisplayName("변환 오류는 해당 행의 read에서 발생하고 다음 행은 계속 처리 테스트")
+    void testProcessErrorSurfacesOnRead() throws Exception {
+        // Given
+        when(mockDelegate.getKeyColumn()).thenReturn("사용자ID");
+        when(mockDelegate.read()).thenReturn(user(1), user(2), null);
+        ItemProcessor<DataRecord, DataRecord> processor = item -> {
+            if ((Integer) item.getValue("사용자ID") == 1) {
+                throw new IllegalArgumentException("변환 실패");
+            }
+            return renamed(item);
+        };
+
+        PipelinedItemReader reader = new PipelinedItemReader(mockDelegate, processor, 4, "usersPipeline", taskExecutor);
+        reader.open(new ExecutionContext());
+
+        // When & Then
+        assertThatThrownBy(reader::read).isInstanceOf(IllegalArgumentException.class);
+        assertThat(reader.read().getValue("user_id")).isEqualTo(2);
+        assertThat(reader.read()).isNull();
+        reader.close();
+    }
+
+    @Test
+    @DisplayName("소스 읽기 오류는 skip할 수 없는 예외로 Step을 실패시키고 정상 종료하지 않음 테스트")
+    void testReadErrorIsFatal() throws Exception {
+        // Given - 1번 행을 읽은 뒤 소스 연결 오류
+        when(mockDelegate.getKeyColumn()).thenReturn("사용자ID");
+        when(mockDelegate.read())
+            .thenReturn(user(1))
+            .thenThrow(new DataAccessResourceFailureException("Connection reset"));
+        ItemProcessor<DataRecord, DataRecord> processor = this::renamed;
+
+        PipelinedItemReader reader = new PipelinedItemReader(mockDelegate, processor, 4, "usersPipeline", taskExecutor);
+        reader.open(new ExecutionContext());
+
+        // When & Then - 다시 읽어도 null(정상 종료) 대신 같은 오류가 발생
+        assertThat(reader.read().getValue("user_id")).isEqualTo(1);
+        assertThatThrownBy(reader::read)
+            .isInstanceOf(NonSkippableReadException.class)
+            .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+        assertThatThrownBy(reader::read).isInstanceOf(NonSkippableReadException.class);
+        reader.close();
+    }
+
+    @Test
+    @DisplayName("단계 스레드를 얻지 못하면 open 실패 및 이미 시작한 단계 중지 테스트")
+    void testOpenFailsWhenStagesAreRejected() throws Exception {
+        // Given - 변환 단계는 시작되고 읽기 단계 제출은 거부됨
+        int[] submitted = {0};
+        AsyncTaskExecutor saturatedExecutor = task -> {
+            if (submitted[0]++ > 0) {
+                throw new TaskRejectedException("Pipeline executor is saturated");
+            }
+            taskExecutor.execute(task);
+        };
+        ItemProcessor<DataRecord, DataRecord> processor = this::renamed;
+
+        PipelinedItemReader reader =
+            new PipelinedItemReader(mockDelegate, processor, 4, "usersPipeline", saturatedExecutor);
+
+        // When & Then - 변환 단계가 중지되어 close가 대기 없이 끝남
+        assertThatThrownBy(() -> reader.open(new ExecutionContext()))
+            .isInstanceOf(ItemStreamException.class)
+            .hasCauseInstanceOf(TaskRejectedException.class);
+        reader.close();
+        verify(mockDelegate, never()).read();
+        verify(mockDelegate).close();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.batch.statistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MigrationStatisticsRegistry 테스트
+ */
+@DisplayName("Step별 통계 저장소 테스트")
+class MigrationStatisticsRegistryTest {
+
+    private final MigrationStatisticsRegistry registry = new MigrationStatisticsRegistry();
+    private final JobExecution jobExecution = new JobExecution(1L);
+
+    @AfterEach
+    void tearDown() {
+        StepSynchronizationManager.close();
+    }
+
+    @Test
+    @DisplayName("현재 스레드의 Step 실행별 통계 분리 및 합계 테스트")
+    void testStatisticsScopedPerStepExecution() {
+        // Given
+        StepExecution usersStep = new StepExecution("usersStep", jobExecution, 10L);
+        StepExecution ordersStep = new StepExecution("ordersStep", jobExecution, 11L);
+
+        // When
+        StepSynchronizationManager.register(usersStep);
+        registry.current().incrementProcessed();
+        registry.current().addWritten(5);
+        StepSynchronizationManager.close();
+
+        StepSynchronizationManager.register(ordersStep);
+        registry.current().addWritten(3);
+        registry.current().addWriteErrors(1);
+        registry.current().addDeadLettered(1);
+        StepSynchronizationManager.close();
+
+        registry.current().incrementProcessed();
+
+        // Then
+        assertThat(registry.getStep(10L).getStepName()).isEqualTo("usersStep");
+        assertThat(registry.getStep(10L).getWritten()).isEqualTo(5);
+        assertThat(registry.getStep(11L).getWritten()).isEqualTo(3);
+        assertThat(registry.getStep(11L).getDeadLettered()).isEqualTo(1);
+        assertThat(registry.getTotal().getWritten()).isEqualTo(8);
+        assertThat(registry.getTotal().getProcessed()).isEqualTo(2);
+
+        Map<String, Object> snapshot = registry.snapshot();
+        assertThat((List<?>) snapshot.get("steps")).hasSize(2);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> total = (Map<String, Object>) snapshot.get("total");
+        assertThat(total).containsEntry("writeErrors", 1L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시 집계 시 누락 없음 테스트")
+    void testConcurrentUpdatesAreNotLost() throws Exception {
+        // Given
+        StepExecution stepExecution = new StepExecution("partitionStep", jobExecution, 20L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When - 멀티스레드 Step처럼 워커 스레드마다 같은 Step 실행을 등록하고 집계
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                StepSynchronizationManager.register(stepExecution);
+                try {
+                    for (int i = 0; i < 10_000; i++) {
+                        registry.current().incrementProcessed();
+                        registry.current().addWritten(1);
+                    }
+                } finally {
+                    StepSynchronizationManager.release();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(registry.getStep(20L).getProcessed()).isEqualTo(80_000);
+        assertThat(registry.getStep(20L).getWritten()).isEqualTo(80_000);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.batch.statistics;
+
+import com.example.batch.job.KeyRangePartitioner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * ProgressTracker 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이관 진행 상황 계산 테스트")
+class ProgressTrackerTest {
+
+    @Mock
+    private JobExplorer mockJobExplorer;
+
+    private final MigrationStatisticsRegistry statisticsRegistry = new MigrationStatisticsRegistry();
+
+    private StepExecution workerStep(JobExecution jobExecution, long id, String tableName, long readCount, long writeCount) {
+        StepExecution stepExecution = jobExecution.createStepExecution(tableName + "WorkerStep:partition" + id);
+        stepExecution.setId(id);
+        stepExecution.setStatus(BatchStatus.STARTED);
+        stepExecution.setStartTime(LocalDateTime.now().minusSeconds(10));
+        stepExecution.setReadCount(readCount);
+        stepExecution.setWriteCount(writeCount);
+        stepExecution.getExecutionContext().putString(KeyRangePartitioner.TABLE_NAME_KEY, tableName);
+        return stepExecution;
+    }
+
+    @Test
+    @DisplayName("파티션 Worker를 테이블별로 합산하고 커밋 전 건수 반영 테스트")
+    @SuppressWarnings("unchecked")
+    void testAggregatesWorkersPerTable() {
+        // Given - 사용자 테이블 Worker 2개, 두 번째 Worker는 커밋 전 읽기 600건, 변환 550건, 쓰기 500건이 더 있음
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.setStatus(BatchStatus.STARTED);
+        jobExecution.setStartTime(LocalDateTime.now().minusSeconds(10));
+        workerStep(jobExecution, 1L, "사용자", 1000, 1000);
+        StepExecution second = workerStep(jobExecution, 2L, "사용자", 1000, 1000);
+        statisticsRegistry.forStep(second).addRead(1600);
+        statisticsRegistry.forStep(second).addProcessed(1550);
+        statisticsRegistry.forStep(second).addWritten(1500);
+        jobExecution.createStepExecution("사용자PartitionedMigrationStep").setStatus(BatchStatus.STARTED);
+        when(mockJobExplorer.getJobExecution(1L)).thenReturn(jobExecution);
+
+        ProgressTracker tracker = new ProgressTracker(1L, mockJobExplorer, statisticsRegistry, table -> 10_000L);
+
+        // When
+        Map<String, Object> progress = tracker.next();
+
+        // Then - 파티션 Manager Step은 제외, 읽기 건수에 변환 건수를 섞지 않음
+        // 10초 동안 2500건이면 250 rows/sec, 남은 7500건은 30초
+        List<Map<String, Object>> tables = (List<Map<String, Object>>) progress.get("tables");
+        assertThat(tables).hasSize(1);
+        Map<String, Object> users = tables.get(0);
+        assertThat(users).containsEntry("table", "사용자")
+            .containsEntry("status", "STARTED")
+            .containsEntry("read", 2600L)
+            .containsEntry("processed", 1550L)
+            .containsEntry("written", 2500L)
+            .containsEntry("lag", 100L)
+            .containsEntry("totalRows", 10_000L)
+            .containsEntry("percent", 25.0);
+        assertThat((Double) users.get("rowsPerSecond")).isBetween(240.0, 260.0);
+        assertThat((Long) users.get("etaSeconds")).isBetween(28L, 32L);
+        assertThat(tracker.isFinished()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Job 종료 시 완료 상태 전송 후 스트림 종료 테스트")
+    void testFinishedWhenJobCompleted() {
+        // Given
+        JobExecution jobExecution = new JobExecution(2L);
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        StepExecution stepExecution = workerStep(jobExecution, 3L, "상품", 500, 500);
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+        when(mockJobExplorer.getJobExecution(2L)).thenReturn(jobExecution);
+
+        ProgressTracker tracker = new ProgressTracker(2L, mockJobExplorer, statisticsRegistry, table -> null);
+
+        // When
+        Map<String, Object> progress = tracker.next();
+
+        // Then
+        assertThat(progress).containsEntry("status", "COMPLETED");
+        assertThat(tracker.isFinished()).isTrue();
+    }
+}
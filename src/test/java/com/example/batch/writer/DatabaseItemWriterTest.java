@@ -1,20 +1,36 @@
 package com.example.batch.writer;
 
+import com.example.batch.config.BatchProperties;
 import com.example.batch.model.DataRecord;
+import com.example.batch.statistics.MigrationMetrics;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.item.Chunk;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +52,18 @@ class DatabaseItemWriterTest {
     @Mock
     private JdbcTemplate mockJdbcTemplate;
 
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @Spy
+    private MigrationStatisticsRegistry statisticsRegistry = new MigrationStatisticsRegistry();
+
+    @Spy
+    private MigrationMetrics migrationMetrics = new MigrationMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private List<DataRecord> testRecords;
     private Chunk<DataRecord> testChunk;
 
@@ -138,7 +166,7 @@ class DatabaseItemWriterTest {
     }
 
     @Test
-    @DisplayName("배치 INSERT 실패 시 개별 INSERT 시도 테스트")
+    @DisplayName("단일 행 배치 INSERT 실패 시 개별 INSERT 재시도 테스트")
     void testBatchInsertFailureWithIndividualRetry() throws Exception {
         // Given
         when(mockJdbcTemplate.batchUpdate(anyString(), anyList()))
@@ -235,11 +263,13 @@ class DatabaseItemWriterTest {
     }
 
     @Test
-    @DisplayName("개별 INSERT도 실패하는 경우 테스트")
+    @DisplayName("개별 INSERT도 실패하는 경우 dead-letter 기록 테스트")
     void testIndividualInsertFailure() throws Exception {
         // Given
         when(mockJdbcTemplate.batchUpdate(anyString(), anyList()))
             .thenThrow(new DataAccessException("Batch insert failed") {});
+        doReturn(new int[]{1}).when(mockJdbcTemplate)
+            .batchUpdate(startsWith("INSERT INTO migration_dead_letter"), anyList());
         
         when(mockJdbcTemplate.update(anyString(), any(Object[].class)))
             .thenThrow(new DataAccessException("Individual insert failed") {});
@@ -247,9 +277,127 @@ class DatabaseItemWriterTest {
         // When & Then
         assertDoesNotThrow(() -> databaseItemWriter.write(testChunk));
         
-        // 배치 INSERT 시도 + 개별 INSERT 시도가 모두 이루어져야 함
-        verify(mockJdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        // 배치 INSERT 시도 + 개별 INSERT 시도 후 실패 행은 dead-letter 테이블에 기록
+        verify(mockJdbcTemplate, times(2)).batchUpdate(startsWith("INSERT INTO migration_dead_letter"), anyList());
+        verify(mockJdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        assertThat(databaseItemWriter.getWritingStats()).contains("Written: 0", "Errors: 2");
+    }
+
+    @Test
+    @DisplayName("배치 분할 재실행으로 오류 행만 분리 테스트")
+    void testBisectionIsolatesBadRow() throws Exception {
+        // Given - 8행 중 user_id=6인 행만 제약 조건 위반
+        List<DataRecord> users = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            Map<String, Object> userData = new HashMap<>();
+            userData.put("user_id", i);
+            users.add(new DataRecord("users", userData));
+        }
+        when(mockJdbcTemplate.batchUpdate(startsWith("INSERT INTO users"), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> Integer.valueOf(6).equals(row[0]))) {
+                throw new DataAccessException("Duplicate entry") {};
+            }
+            return new int[rows.size()];
+        });
+        when(mockJdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            if (Integer.valueOf(6).equals(invocation.getArgument(1))) {
+                throw new DataAccessException("Duplicate entry") {};
+            }
+            return 1;
+        });
+        doReturn(new int[]{1}).when(mockJdbcTemplate)
+            .batchUpdate(startsWith("INSERT INTO migration_dead_letter"), anyList());
+
+        // When
+        assertDoesNotThrow(() -> databaseItemWriter.write(new Chunk<>(users)));
+
+        // Then - 전체 1회 + [1-4], [5-8], [5,6], [7,8] 배치 후 6번 행만 개별 실행
+        verify(mockJdbcTemplate, times(5)).batchUpdate(startsWith("INSERT INTO users"), anyList());
         verify(mockJdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        verify(mockJdbcTemplate).batchUpdate(startsWith("INSERT INTO migration_dead_letter"), anyList());
+        assertThat(databaseItemWriter.getWritingStats()).contains("Written: 7", "Errors: 1");
+        verify(migrationMetrics).recordWriteFallback("users");
+    }
+
+    @Test
+    @DisplayName("일부 행이 반영된 뒤 실패한 배치는 세이브포인트로 롤백 후 분할 재실행 테스트")
+    void testBisectionRollsBackPartiallyAppliedBatch() throws Exception {
+        // Given - 드라이버처럼 user_id=6 이전 행까지 반영한 뒤 예외를 던지고, 이미 반영된 행은 중복 키로 실패
+        List<DataRecord> users = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            Map<String, Object> userData = new HashMap<>();
+            userData.put("user_id", i);
+            users.add(new DataRecord("users", userData));
+        }
+        List<Object> applied = new ArrayList<>();
+        Deque<Integer> savepoints = new ArrayDeque<>();
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            savepoints.push(applied.size());
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> savepoints.pop()).when(transactionManager).commit(any(TransactionStatus.class));
+        doAnswer(invocation -> {
+            int savepoint = savepoints.pop();
+            applied.subList(savepoint, applied.size()).clear();
+            return null;
+        }).when(transactionManager).rollback(any(TransactionStatus.class));
+
+        when(mockJdbcTemplate.batchUpdate(startsWith("INSERT INTO users"), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                if (Integer.valueOf(6).equals(row[0]) || applied.contains(row[0])) {
+                    throw new DataAccessException("Duplicate entry") {};
+                }
+                applied.add(row[0]);
+            }
+            return new int[rows.size()];
+        });
+        when(mockJdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Object userId = invocation.getArgument(1);
+            if (Integer.valueOf(6).equals(userId) || applied.contains(userId)) {
+                throw new DataAccessException("Duplicate entry") {};
+            }
+            applied.add(userId);
+            return 1;
+        });
+        doReturn(new int[]{1}).when(mockJdbcTemplate)
+            .batchUpdate(startsWith("INSERT INTO migration_dead_letter"), anyList());
+
+        // When
+        assertDoesNotThrow(() -> databaseItemWriter.write(new Chunk<>(users)));
+
+        // Then - 6번 행만 dead-letter로 분리되고 나머지 행은 한 번씩만 반영됨
+        assertThat(applied).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 7, 8);
+        assertThat(savepoints).isEmpty();
+        verify(mockJdbcTemplate).batchUpdate(startsWith("INSERT INTO migration_dead_letter"), anyList());
+        assertThat(databaseItemWriter.getWritingStats()).contains("Written: 7", "Errors: 1");
+    }
+
+    @Test
+    @DisplayName("순환 참조 테이블은 청크 트랜잭션 안에서 외래키 검사를 끄고 적재 테스트")
+    void testForeignKeyChecksDisabledForCyclicTable() throws Exception {
+        // Given - Job ExecutionContext에 users 테이블이 외래키 검사 해제 대상으로 등록됨
+        JobExecution jobExecution = new JobExecution(1L);
+        ForeignKeyChecks.disableFor(jobExecution.getExecutionContext(), List.of("users"));
+        when(mockJdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+
+        StepSynchronizationManager.register(new StepExecution("usersStep", jobExecution, 10L));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // When
+            databaseItemWriter.write(testChunk);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            StepSynchronizationManager.close();
+        }
+
+        // Then - users 적재 전후로만 검사를 끄고 다시 켬 (products는 그대로)
+        InOrder inOrder = inOrder(mockJdbcTemplate);
+        inOrder.verify(mockJdbcTemplate).execute("SET foreign_key_checks = 0");
+        inOrder.verify(mockJdbcTemplate).batchUpdate(startsWith("INSERT INTO users"), anyList());
+        inOrder.verify(mockJdbcTemplate).execute("SET foreign_key_checks = 1");
+        verify(mockJdbcTemplate, times(2)).execute(anyString());
     }
 
     @Test
@@ -320,4 +468,76 @@ class DatabaseItemWriterTest {
         String stats = databaseItemWriter.getWritingStats();
         assertThat(stats).contains("Written: 1000");
     }
+
+    @Test
+    @DisplayName("다중 행 INSERT 모드 문장 분할 테스트")
+    void testMultiRowWriteMode() throws Exception {
+        // Given
+        batchProperties.getWriter().setMode(WriteMode.MULTI_ROW);
+        batchProperties.getWriter().setMaxRowsPerStatement(2);
+        List<DataRecord> orders = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Map<String, Object> data = new HashMap<>();
+            data.put("order_id", i);
+            orders.add(new DataRecord("orders", data));
+        }
+        when(mockJdbcTemplate.update(anyString(), any(Object[].class)))
+            .thenAnswer(invocation -> invocation.getArguments().length - 1);
+
+        // When
+        assertDoesNotThrow(() -> databaseItemWriter.write(new Chunk<>(orders)));
+
+        // Then - 5행은 2행짜리 문장 2개와 1행짜리 문장 1개로 실행
+        verify(mockJdbcTemplate, times(2)).update(eq("INSERT INTO orders (order_id) VALUES (?), (?)"), any(Object[].class));
+        verify(mockJdbcTemplate).update(eq("INSERT INTO orders (order_id) VALUES (?)"), any(Object[].class));
+        verify(mockJdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(databaseItemWriter.getWritingStats()).contains("Written: 5");
+    }
+
+    @Test
+    @DisplayName("테이블별 UPSERT/IGNORE 쿼리 생성 테스트")
+    void testInsertPolicyQueries() throws Exception {
+        // Given
+        batchProperties.getWriter().getTablePolicies().put("users", InsertPolicy.UPSERT);
+        batchProperties.getWriter().getTablePolicies().put("products", InsertPolicy.IGNORE);
+        List<DataRecord> records = new ArrayList<>();
+        Map<String, Object> userData = new LinkedHashMap<>();
+        userData.put("user_id", 1);
+        userData.put("name", "김철수");
+        records.add(new DataRecord("users", userData));
+        Map<String, Object> productData = new LinkedHashMap<>();
+        productData.put("product_id", 100);
+        records.add(new DataRecord("products", productData));
+        when(mockJdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{2});
+
+        // When
+        assertDoesNotThrow(() -> databaseItemWriter.write(new Chunk<>(records)));
+
+        // Then
+        verify(mockJdbcTemplate).batchUpdate(eq("INSERT INTO users (user_id, name) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), name = VALUES(name)"), anyList());
+        verify(mockJdbcTemplate).batchUpdate(eq("INSERT IGNORE INTO products (product_id) VALUES (?)"), anyList());
+    }
+
+    @Test
+    @DisplayName("UPSERT 다중 행 INSERT 쿼리 생성 테스트")
+    void testMultiRowUpsertQuery() throws Exception {
+        // Given
+        batchProperties.getWriter().setMode(WriteMode.MULTI_ROW);
+        batchProperties.getWriter().setInsertPolicy(InsertPolicy.UPSERT);
+        List<DataRecord> orders = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            Map<String, Object> data = new HashMap<>();
+            data.put("order_id", i);
+            orders.add(new DataRecord("orders", data));
+        }
+        when(mockJdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(2);
+
+        // When
+        assertDoesNotThrow(() -> databaseItemWriter.write(new Chunk<>(orders)));
+
+        // Then - ON DUPLICATE KEY UPDATE 절은 마지막 VALUES 그룹 뒤에 한 번만 붙음
+        verify(mockJdbcTemplate).update(eq("INSERT INTO orders (order_id) VALUES (?), (?) " +
+            "ON DUPLICATE KEY UPDATE order_id = VALUES(order_id)"), any(Object[].class));
+    }
 }
@@ -0,0 +1,155 @@
+package com.example.batch.writer;
+
+import com.example.batch.config.BatchProperties;
+import com.example.batch.model.DataRecord;
+import com.example.batch.statistics.MigrationStatisticsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * LoadDataItemWriter 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LOAD DATA 아이템 라이터 테스트")
+class LoadDataItemWriterTest {
+
+    @InjectMocks
+    private LoadDataItemWriter loadDataItemWriter;
+
+    @Mock
+    private JdbcTemplate mockJdbcTemplate;
+
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @Spy
+    private MigrationStatisticsRegistry statisticsRegistry = new MigrationStatisticsRegistry();
+
+    private DataRecord customer(Integer id, String name, String memo, BigDecimal balance, LocalDateTime createdAt) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("customer_id", id);
+        data.put("name", name);
+        data.put("memo", memo);
+        data.put("balance", balance);
+        data.put("created_at", createdAt);
+        return new DataRecord("customers", data);
+    }
+
+    @Test
+    @DisplayName("NULL, 특수문자, 한글, 날짜 TSV 직렬화 테스트")
+    void testTsvSerialization() {
+        // Given
+        List<DataRecord> records = List.of(
+            customer(1, "김철수", "첫 줄\n둘째\t줄\\끝", new BigDecimal("1E+3"), LocalDateTime.of(2024, 1, 15, 10, 30)),
+            customer(2, "이영희", null, null, null)
+        );
+        List<String> columns = List.of("customer_id", "name", "memo", "balance", "created_at");
+
+        // When
+        String tsv = loadDataItemWriter.toTsv(columns, records).toString(StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(tsv).isEqualTo(
+            "1\t김철수\t첫 줄\\n둘째\\t줄\\\\끝\t1000\t2024-01-15 10:30:00.000000\n" +
+            "2\t이영희\t\\N\t\\N\t\\N\n");
+    }
+
+    @Test
+    @DisplayName("LOAD DATA 쿼리 생성 테스트")
+    void testBuildLoadDataQuery() {
+        // When
+        String sql = loadDataItemWriter.buildLoadDataQuery("customers", List.of("customer_id", "name"));
+
+        // Then
+        assertThat(sql).startsWith("LOAD DATA LOCAL INFILE 'customers.tsv' INTO TABLE customers CHARACTER SET utf8mb4");
+        assertThat(sql).endsWith("(customer_id, name)");
+    }
+
+    @Test
+    @DisplayName("테이블별 중복 키 처리 방식 LOAD DATA 쿼리 반영 테스트")
+    void testBuildLoadDataQueryWithInsertPolicy() {
+        // Given
+        batchProperties.getWriter().getTablePolicies().put("customers", InsertPolicy.REPLACE);
+        batchProperties.getWriter().getTablePolicies().put("orders", InsertPolicy.UPSERT);
+
+        // When
+        String sql = loadDataItemWriter.buildLoadDataQuery("customers", List.of("customer_id"));
+
+        // Then
+        assertThat(sql).startsWith("LOAD DATA LOCAL INFILE 'customers.tsv' REPLACE INTO TABLE customers");
+        assertThatThrownBy(() -> loadDataItemWriter.buildLoadDataQuery("orders", List.of("order_id")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("청크를 로컬 파일 스트림으로 적재 테스트")
+    @SuppressWarnings("unchecked")
+    void testWriteUsesLocalInfileStream() throws Exception {
+        // Given
+        Statement statement = mock(Statement.class);
+        org.mariadb.jdbc.Statement mariadbStatement = mock(org.mariadb.jdbc.Statement.class);
+        when(statement.unwrap(org.mariadb.jdbc.Statement.class)).thenReturn(mariadbStatement);
+        when(statement.executeLargeUpdate(startsWith("LOAD DATA LOCAL INFILE"))).thenReturn(1L);
+        when(mockJdbcTemplate.execute(any(StatementCallback.class)))
+            .thenAnswer(invocation -> ((StatementCallback<Long>) invocation.getArgument(0)).doInStatement(statement));
+
+        Chunk<DataRecord> chunk = new Chunk<>(List.of(
+            customer(1, "김철수", null, BigDecimal.ONE, LocalDateTime.of(2024, 1, 15, 10, 30))));
+
+        // When
+        assertDoesNotThrow(() -> loadDataItemWriter.write(chunk));
+
+        // Then
+        verify(mariadbStatement).setLocalInfileInputStream(any(InputStream.class));
+        assertThat(loadDataItemWriter.getWritingStats()).contains("Written: 1");
+    }
+
+    @Test
+    @DisplayName("INSERT 정책에서 경고로 건너뛴 행이 있으면 청크 실패 처리 테스트")
+    @SuppressWarnings("unchecked")
+    void testWriteFailsWhenRowsAreSkippedAsWarnings() throws Exception {
+        // Given - 2행 중 1행만 적재 (중복 키 행은 LOCAL 적재에서 경고로 건너뜀)
+        Statement statement = mock(Statement.class);
+        org.mariadb.jdbc.Statement mariadbStatement = mock(org.mariadb.jdbc.Statement.class);
+        when(statement.unwrap(org.mariadb.jdbc.Statement.class)).thenReturn(mariadbStatement);
+        when(statement.executeLargeUpdate(startsWith("LOAD DATA LOCAL INFILE"))).thenReturn(1L);
+        when(mockJdbcTemplate.execute(any(StatementCallback.class)))
+            .thenAnswer(invocation -> ((StatementCallback<Long>) invocation.getArgument(0)).doInStatement(statement));
+
+        Chunk<DataRecord> chunk = new Chunk<>(List.of(
+            customer(1, "김철수", null, BigDecimal.ONE, LocalDateTime.of(2024, 1, 15, 10, 30)),
+            customer(1, "이영희", null, BigDecimal.TEN, LocalDateTime.of(2024, 1, 16, 9, 0))));
+
+        // When & Then
+        assertThatThrownBy(() -> loadDataItemWriter.write(chunk))
+            .isInstanceOf(JdbcUpdateAffectedIncorrectNumberOfRowsException.class);
+        assertThat(loadDataItemWriter.getWritingStats()).contains("Written: 0", "Errors: 2");
+    }
+}
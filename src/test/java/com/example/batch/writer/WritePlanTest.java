@@ -0,0 +1,79 @@
+package com.example.batch.writer;
+
+import com.example.batch.model.DataRecord;
+import com.example.batch.model.RecordSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WritePlan 테스트
+ */
+@DisplayName("테이블 쓰기 계획 테스트")
+class WritePlanTest {
+
+    private DataRecord user(Integer id, String name) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("user_id", id);
+        data.put("name", name);
+        return new DataRecord("users", data);
+    }
+
+    @Test
+    @DisplayName("컬럼 순서, SQL, NULL 값 타입 지정 테스트")
+    void testCreatePlanFromMapRecords() {
+        // Given
+        List<DataRecord> records = List.of(user(1, null), user(2, "김철수"));
+
+        // When
+        WritePlan plan = WritePlan.create(records, InsertPolicy.INSERT, columns -> "INSERT " + columns);
+        List<Object[]> batchArgs = plan.buildBatchArgs(records);
+
+        // Then
+        int nameIndex = plan.getColumns().indexOf("name");
+        assertThat(plan.getInsertSql()).isEqualTo("INSERT " + plan.getColumns());
+        assertThat(plan.getJdbcType(nameIndex)).isEqualTo(Types.VARCHAR);
+        assertThat(batchArgs.get(0)[nameIndex]).isInstanceOf(SqlParameterValue.class);
+        assertThat(((SqlParameterValue) batchArgs.get(0)[nameIndex]).getSqlType()).isEqualTo(Types.VARCHAR);
+        assertThat(batchArgs.get(1)[nameIndex]).isEqualTo("김철수");
+    }
+
+    @Test
+    @DisplayName("컬럼 구성 또는 INSERT 정책 변경 시 계획 불일치 테스트")
+    void testMatchesDetectsColumnChange() {
+        // Given
+        WritePlan plan = WritePlan.create(List.of(user(1, "김철수")), InsertPolicy.INSERT, columns -> "");
+        DataRecord withExtraColumn = user(2, "이영희");
+        withExtraColumn.setValue("email", "lee@example.com");
+
+        // When & Then
+        assertThat(plan.matches(user(3, "박민수"), InsertPolicy.INSERT)).isTrue();
+        assertThat(plan.matches(withExtraColumn, InsertPolicy.INSERT)).isFalse();
+        assertThat(plan.matches(user(3, "박민수"), InsertPolicy.UPSERT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스키마 기반 레코드 값 배열 직접 복사 테스트")
+    void testSchemaBackedRecordsUseValueArray() {
+        // Given
+        RecordSchema schema = RecordSchema.of(List.of("order_id", "status"));
+        DataRecord order = new DataRecord("orders", schema, new Object[]{10, "PAID"});
+
+        // When
+        WritePlan plan = WritePlan.create(List.of(order), InsertPolicy.INSERT, columns -> "");
+        Object[] args = plan.buildBatchArgs(List.of(order)).get(0);
+
+        // Then
+        assertThat(plan.getColumns()).containsExactly("order_id", "status");
+        assertThat(args).containsExactly(10, "PAID");
+        assertThat(args).isNotSameAs(order.getValues());
+        assertThat(plan.matches(new DataRecord("orders", schema, new Object[]{11, "NEW"}), InsertPolicy.INSERT)).isTrue();
+    }
+}